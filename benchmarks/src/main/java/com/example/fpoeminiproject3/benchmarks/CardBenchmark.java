@@ -0,0 +1,48 @@
+package com.example.fpoeminiproject3.benchmarks;
+
+import com.example.fpoeminiproject3.model.Card;
+import com.example.fpoeminiproject3.model.CardColor;
+import com.example.fpoeminiproject3.model.CardRules;
+import com.example.fpoeminiproject3.model.CardType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the card matching rules.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardBenchmark {
+    private Card[] cards;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cards = new Card[Card.KIND_COUNT];
+        for (int id = 0; id < Card.KIND_COUNT; id++) {
+            cards[id] = Card.fromId(id);
+        }
+    }
+
+    @Benchmark
+    public boolean similarCard() {
+        int i = index++ % Card.KIND_COUNT;
+        return cards[i].similarCard(cards[(i * 7) % Card.KIND_COUNT]);
+    }
+
+    @Benchmark
+    public boolean canPlay() {
+        int i = index++ % Card.KIND_COUNT;
+        return CardRules.canPlay(i, (i * 7) % Card.WILD_ID, CardColor.RED);
+    }
+
+    @Benchmark
+    public Card cardOf() {
+        return Card.of(CardColor.BLUE, CardType.SKIP);
+    }
+}
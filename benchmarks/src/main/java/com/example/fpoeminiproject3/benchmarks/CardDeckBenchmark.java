@@ -0,0 +1,71 @@
+package com.example.fpoeminiproject3.benchmarks;
+
+import com.example.fpoeminiproject3.model.Card;
+import com.example.fpoeminiproject3.model.CardDeck;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures drawing, discarding and reshuffling on a single deck.
+ * Drawn cards go back to the discard pile so the deck never runs out.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardDeckBenchmark {
+    private CardDeck deck;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        deck = new CardDeck();
+        deck.discardCard(deck.drawCard());
+    }
+
+    @Benchmark
+    public Card drawCard() {
+        Card card = deck.drawCard();
+        deck.discardCard(card);
+        return card;
+    }
+
+    @Benchmark
+    public List<Card> drawCards() {
+        List<Card> cards = deck.drawCards(4);
+        for (Card card : cards) {
+            deck.discardCard(card);
+        }
+        return cards;
+    }
+
+    @Benchmark
+    public CardDeck shuffle() {
+        deck.shuffle();
+        return deck;
+    }
+
+    /**
+     * Draws the whole draw pile into the discard pile and then draws once more, which reshuffles.
+     * The cost is reported per card moved.
+     */
+    @Benchmark
+    @OperationsPerInvocation(CardDeck.SIZE)
+    public void reshuffleDiscardPile(Blackhole blackhole) {
+        while (deck.getDrawPileSize() > 0) {
+            deck.discardCard(deck.drawCard());
+        }
+        Card card = deck.drawCard();
+        deck.discardCard(card);
+        blackhole.consume(card);
+    }
+
+    @Benchmark
+    public CardDeck newDeck() {
+        return new CardDeck();
+    }
+}
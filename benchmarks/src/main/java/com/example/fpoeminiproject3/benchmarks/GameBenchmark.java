@@ -0,0 +1,40 @@
+package com.example.fpoeminiproject3.benchmarks;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Player;
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures full-game throughput of the headless engine, including game creation and dealing,
+ * and the cost of saving and restoring a game snapshot.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameBenchmark {
+    private final Game game = new Game("Benchmark", false);
+    private final byte[] snapshot = game.save();
+
+    @Benchmark
+    public Player playGame() {
+        return GameSimulator.play(new Game("Benchmark", false));
+    }
+
+    @Benchmark
+    public byte[] save() {
+        game.save(snapshot, 0);
+        return snapshot;
+    }
+
+    @Benchmark
+    public Game restore() {
+        game.restore(snapshot, 0);
+        return game;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.fpoeminiproject3.benchmarks;
+
+import com.example.fpoeminiproject3.model.Card;
+import com.example.fpoeminiproject3.model.CardColor;
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.MachinePlayer;
+import com.example.fpoeminiproject3.model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures hand operations on a machine player holding a large hand.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlayerBenchmark {
+    @Param({"7", "30"})
+    public int handSize;
+
+    private MachinePlayer player;
+    private Card card;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        Game game = new Game("Benchmark", false);
+        player = game.getMachinePlayer();
+        for (int i = player.getDeckSize(); i < handSize; i++) {
+            player.addCard(Card.fromId(i % Card.KIND_COUNT));
+        }
+        card = player.getCards().get(handSize / 2);
+    }
+
+    @Benchmark
+    public List<Card> getCards() {
+        return player.getCards();
+    }
+
+    @Benchmark
+    public Player removeCard() {
+        player.removeCard(card);
+        player.addCard(card);
+        return player;
+    }
+
+    @Benchmark
+    public CardColor chooseColor() {
+        return player.chooseColor();
+    }
+}
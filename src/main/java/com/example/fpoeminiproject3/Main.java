@@ -1,9 +1,15 @@
 package com.example.fpoeminiproject3;
 
+import com.example.fpoeminiproject3.ai.Strategies;
 import com.example.fpoeminiproject3.controller.GameController;
+import com.example.fpoeminiproject3.journal.GameJournal;
+import com.example.fpoeminiproject3.metrics.GameMetrics;
 import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.view.CardImageCache;
 import com.example.fpoeminiproject3.view.GameView;
+import javafx.animation.AnimationTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
@@ -13,6 +19,12 @@ import javafx.scene.layout.VBox;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * The main application class for the Game.
  * This class sets up the JavaFX application and manages the game flow.
@@ -23,6 +35,11 @@ import javafx.stage.Stage;
  * @since 2025
  */
 public class Main extends Application {
+    private CompletableFuture<Void> assets = CompletableFuture.completedFuture(null);
+    private boolean starting;
+    private Game game;
+    private GameJournal journal;
+
     /**
      * The main entry point for the JavaFX application.
      * @param primaryStage The primary stage for this application
@@ -30,6 +47,7 @@ public class Main extends Application {
     @Override
     public void start(Stage primaryStage) {
         try {
+            assets = CardImageCache.preload();
             VBox welcomePane = new VBox(20);
             welcomePane.setAlignment(Pos.CENTER);
             welcomePane.setPadding(new Insets(20));
@@ -49,14 +67,14 @@ public class Main extends Application {
             });
             nameField.setOnKeyPressed(event -> {
                 if (event.getCode() == KeyCode.ENTER && !nameField.getText().trim().isEmpty()) {
-                    startGame(primaryStage, nameField.getText().trim());
+                    startWhenLoaded(primaryStage, nameField.getText().trim());
                 }
             });
 
             Button instructionsBtn = new Button("Instructions");
             instructionsBtn.setOnAction(e -> showInstructions());
             startBtn.setOnAction(e -> {
-                startGame(primaryStage, nameField.getText().trim());
+                startWhenLoaded(primaryStage, nameField.getText().trim());
             });
 
             welcomePane.getChildren().addAll(welcomeLabel, nameField, instructionsBtn, startBtn);
@@ -66,6 +84,9 @@ public class Main extends Application {
             primaryStage.setTitle("UNO GAME");
             primaryStage.show();
             nameField.requestFocus();
+            if (Boolean.getBoolean("uno.training")) {
+                startWhenLoaded(primaryStage, "Training");
+            }
         } catch (Exception e) {
             showErrorAlert("Error when starting the game");
         }
@@ -87,14 +108,49 @@ public class Main extends Application {
         alert.showAndWait();
     }
 
+    /**
+     * Starts the game once the card images preloaded in the background are decoded, without blocking the FX thread.
+     * Usually they are ready long before the player has typed a name, and the game scene is built in one frame.
+     * @param primaryStage the primary application stage
+     * @param playerName the name of the human player
+     */
+    private void startWhenLoaded(Stage primaryStage, String playerName) {
+        if (starting) {
+            return;
+        }
+        starting = true;
+        assets.whenComplete((ignored, error) -> Platform.runLater(() -> startGame(primaryStage, playerName)));
+    }
+
     /**
      * Initializes and starts the main game with the specified player name.
+     * The machine plays like the original machine player unless {@code uno.ai} names another strategy;
+     * {@code uno.seed} replays a game only with the default, since the ISMCTS search depends on timing.
      * @param primaryStage the primary application stage
      * @param playerName the name of the human player
      */
     private void startGame(Stage primaryStage, String playerName) {
         try {
-            Game game = new Game(playerName);
+            String seedProperty = System.getProperty("uno.seed");
+            long seed = seedProperty != null ? Long.parseLong(seedProperty) : new SplittableRandom().nextLong();
+            game = new Game(playerName, true, seed);
+            GameMetrics.register();
+            String metricsPeriod = System.getProperty("uno.metrics");
+            if (metricsPeriod != null) {
+                GameMetrics.startLogging(Long.parseLong(metricsPeriod));
+            }
+            String strategy = System.getProperty("uno.ai");
+            if (strategy != null) {
+                game.getMachinePlayer().setStrategy(Strategies.create(strategy,
+                        new SplittableRandom(Game.deriveSeed(seed, 0)), Runtime.getRuntime().availableProcessors(),
+                        1000));
+            }
+            String journalDirectory = System.getProperty("uno.journal");
+            if (journalDirectory != null) {
+                Path journalFile = Path.of(journalDirectory, "game-" + System.currentTimeMillis() + ".unoj");
+                journal = new GameJournal(journalFile, game);
+                game.addObserver(journal);
+            }
             GameView gameView = new GameView(null, game);
             GameController controller = new GameController(game, gameView);
             gameView.controller = controller;
@@ -103,11 +159,42 @@ public class Main extends Application {
             primaryStage.setScene(gameScene);
             primaryStage.setTitle("UNO Game - " + playerName);
             controller.initialize();
+            if (Boolean.getBoolean("uno.training")) {
+                exitAfterFirstFrame();
+            }
         } catch (Exception e) {
             showErrorAlert("Error when starting the game.");
         }
     }
 
+    /**
+     * Reports the time from the start of the JVM to the first rendered frame of the game and exits.
+     * Used by the training run of the class-data archive and to measure cold starts.
+     */
+    private void exitAfterFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                long startup = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                System.out.println("Time to first frame: " + startup + " ms");
+                Platform.exit();
+            }
+        }.start();
+    }
+
+    /**
+     * Closes the journal of the game, if one is being written, when the application exits.
+     * @throws IOException if the journal can't be closed
+     */
+    @Override
+    public void stop() throws IOException {
+        if (journal != null) {
+            game.removeObserver(journal);
+            journal.close();
+        }
+    }
+
     /**
      * Displays an error alert dialog with the specified message.
      * @param message the error message to display
@@ -0,0 +1,117 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * A fully known two-player game used for search, with the hidden cards filled in by sampling.
+ * It is a headless {@link Game} restored from the searching player's {@link Observation}, so every hypothetical
+ * move follows the rules of the real game, including the machine player playing a card it just drew.
+ * Seat 0 is the searching player and seat 1 its opponent. An instance is reused for every iteration.
+ */
+final class Determinization {
+    static final int SEARCHER = 0;
+    static final int OPPONENT = 1;
+
+    private final SplittableRandom random;
+    private final Game game;
+    private final RandomStrategy playout;
+    private Player searcher;
+    private boolean stalled;
+
+    /**
+     * Creates a state that samples hidden cards and plays with its own random source.
+     * @param random the random source, used only by the thread that owns this state
+     */
+    Determinization(SplittableRandom random) {
+        this.random = random;
+        this.game = Game.forSearch(random.nextLong());
+        this.playout = new RandomStrategy(random);
+    }
+
+    /**
+     * Resets the state to the observed position and deals the unseen cards randomly
+     * between the opponent's hand and the draw pile.
+     * @param observation what the searching player knows about the game
+     */
+    void sample(Observation observation) {
+        game.restore(observation.snapshot, 0);
+        searcher = observation.machineSeat ? game.getMachinePlayer() : game.getHumanPlayer();
+        game.redealHidden(searcher, random);
+        stalled = false;
+    }
+
+    /**
+     * Gets the seat whose turn it is.
+     * @return the seat to move
+     */
+    int toMove() {
+        return game.getCurrentPlayer() == searcher ? SEARCHER : OPPONENT;
+    }
+
+    /**
+     * Checks if the game ended, with a winner or because no card could be drawn.
+     * @return true if no more moves can be applied
+     */
+    boolean isOver() {
+        return stalled || game.isOver();
+    }
+
+    /**
+     * Gets the winner of the game.
+     * @return the winning seat, or -1 while nobody has won or if the game stalled
+     */
+    int winner() {
+        Player winner = game.getWinner();
+        return winner == null ? -1 : winner == searcher ? SEARCHER : OPPONENT;
+    }
+
+    /**
+     * Fills a buffer with the moves the search considers for the seat to move:
+     * every playable card, or a draw when nothing can be played.
+     * @param moves the buffer to fill
+     * @return the number of moves written
+     */
+    int legalMoves(int[] moves) {
+        return Move.legalMoves(game.getCurrentPlayer().getHand().kindMask() & game.getPlayableKinds(), moves);
+    }
+
+    /**
+     * Plays both seats like the original machine player until the game ends.
+     * @param maxMoves the maximum number of moves to play
+     * @return the winning seat, or -1 if the game did not end within the limit
+     */
+    int rollout(int maxMoves) {
+        for (int i = 0; i < maxMoves && !isOver(); i++) {
+            apply(playout.chooseMove(game, game.getCurrentPlayer(), 0));
+        }
+        return winner();
+    }
+
+    /**
+     * Applies a legal move of the seat to move through the game.
+     * @param move the encoded move
+     * @throws IllegalStateException if the game rejects the move
+     */
+    void apply(int move) {
+        Player player = game.getCurrentPlayer();
+        try {
+            if (player instanceof MachinePlayer machine) {
+                machine.playMove(move);
+            } else if (Move.isDraw(move)) {
+                game.drawCard(player);
+            } else {
+                Card card = Move.card(move);
+                if (card.getColor() == CardColor.WILD) {
+                    ((HumanPlayer) player).selectColor(Move.color(move));
+                }
+                game.playCard(player, card);
+            }
+        } catch (GameException e) {
+            throw new IllegalStateException("The search played an illegal move " + Move.toString(move), e);
+        } catch (IllegalStateException e) {
+            stalled = true;
+        }
+    }
+}
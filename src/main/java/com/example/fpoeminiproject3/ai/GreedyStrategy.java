@@ -0,0 +1,63 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Plays the legal card worth the most points, getting rid of wild and action cards first,
+ * and names the most frequent color of its hand.
+ */
+public class GreedyStrategy implements Strategy {
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private final RandomGenerator random;
+    private final int[] moves = new int[Move.MAX_MOVES];
+
+    /**
+     * Constructs a GreedyStrategy.
+     * @param random the random source used to pick a color when only wild cards are left
+     */
+    public GreedyStrategy(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(Game game, Player player, long budgetMillis) {
+        Hand hand = player.getHand();
+        int plays = game.legalMoves(player, moves) - 1;
+        if (plays <= 0) {
+            return Move.DRAW;
+        }
+        int best = moves[0];
+        for (int i = 1; i < plays; i++) {
+            if (points(Move.card(moves[i])) > points(Move.card(best))) {
+                best = moves[i];
+            }
+        }
+        if (Move.card(best).getColor() == CardColor.WILD) {
+            CardColor color = hand.mostFrequentColor();
+            return Move.play(Move.cardId(best), color != null ? color : COLORS[random.nextInt(COLORS.length - 1)]);
+        }
+        return best;
+    }
+
+    /**
+     * Gets the points a card is worth when left in a hand: its number, 20 for action cards and 50 for wild cards.
+     * @param card the card
+     * @return the card's points
+     */
+    static int points(Card card) {
+        switch (card.getType()) {
+            case SKIP:
+            case REVERSE:
+            case DRAW_TWO:
+                return 20;
+            case WILD:
+            case WILD_DRAW_FOUR:
+                return 50;
+            default:
+                return card.getType().ordinal();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+
+/**
+ * Scores every legal move with a few hand-written rules and plays the best one.
+ * It follows the color it holds most, saves wild cards for when nothing else fits,
+ * and attacks with skip and draw cards when the opponent is close to winning.
+ */
+public class HeuristicStrategy implements Strategy {
+    private final int[] moves = new int[Move.MAX_MOVES];
+
+    @Override
+    public int chooseMove(Game game, Player player, long budgetMillis) {
+        Hand hand = player.getHand();
+        int plays = game.legalMoves(player, moves) - 1;
+        if (plays <= 0) {
+            return Move.DRAW;
+        }
+        int opponentCards = game.getOpponent(player).getDeckSize();
+        int best = moves[0];
+        int bestScore = Integer.MIN_VALUE;
+        for (int i = 0; i < plays; i++) {
+            int score = score(moves[i], hand, opponentCards);
+            if (score > bestScore) {
+                best = moves[i];
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a card play from the point of view of the player holding the hand.
+     * @param move the encoded play, never a draw
+     * @param hand the player's hand
+     * @param opponentCards the number of cards the opponent holds
+     * @return the score, higher is better
+     */
+    private int score(int move, Hand hand, int opponentCards) {
+        Card card = Move.card(move);
+        int score = 2 * hand.colorCount(Move.color(move));
+        if (card.getColor() == CardColor.WILD) {
+            score -= hand.size() > 2 ? 12 : 0;
+        }
+        boolean threatened = opponentCards <= 2;
+        switch (card.getType()) {
+            case WILD_DRAW_FOUR:
+                score += threatened ? 12 : 1;
+                break;
+            case DRAW_TWO:
+                score += threatened ? 10 : 1;
+                break;
+            case SKIP:
+            case REVERSE:
+                score += threatened ? 8 : 1;
+                break;
+            default:
+                break;
+        }
+        return score;
+    }
+}
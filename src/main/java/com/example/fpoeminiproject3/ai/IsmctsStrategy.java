@@ -0,0 +1,300 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+
+/**
+ * Chooses moves with Information-Set Monte Carlo Tree Search (single observer).
+ * Every iteration samples a determinization of the opponent's hand and the draw pile, walks the tree over the moves
+ * legal in that sample, and finishes the game with a random playout. Several searchers run in parallel until the time
+ * budget runs out, each on its own tree, and the move visited most across all trees is played.
+ * Trees are kept between decisions: the subtree reached by the last move and the opponent's observed replies
+ * becomes the next root. The search works on an {@link Observation} captured by {@link #prepareMove},
+ * so it can run away from the game's loop; decisions that overlap, such as one made stale by a restore,
+ * take turns on the trees.
+ */
+public class IsmctsStrategy implements Strategy {
+    private static final double EXPLORATION = 0.7;
+    private static final int ROLLOUT_LIMIT = 300;
+    private static final ExecutorService SEARCH_POOL = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "ismcts-search");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final long defaultBudgetMillis;
+    private final Searcher[] searchers;
+    private final OpponentHistory history = new OpponentHistory();
+    private final int[] moves = new int[Move.MAX_MOVES];
+    private int lastMove = -1;
+    private volatile int generation;
+    private int treeGeneration;
+
+    /**
+     * Constructs an IsmctsStrategy.
+     * @param random the random source, split once per search thread
+     * @param threads the number of searches run in parallel for every decision
+     * @param defaultBudgetMillis the thinking time used when the caller gives no budget
+     */
+    public IsmctsStrategy(SplittableRandom random, int threads, long defaultBudgetMillis) {
+        this.defaultBudgetMillis = defaultBudgetMillis;
+        this.searchers = new Searcher[Math.max(1, threads)];
+        for (int i = 0; i < searchers.length; i++) {
+            searchers[i] = new Searcher(random.split());
+        }
+    }
+
+    @Override
+    public void attach(Game game, Player player) {
+        history.player = player;
+        game.addObserver(history);
+    }
+
+    @Override
+    public void detach(Game game, Player player) {
+        game.removeObserver(history);
+        history.take();
+    }
+
+    /**
+     * Drops the recorded opponent moves, and the search trees before the next search, since they don't lead to
+     * a restored state.
+     */
+    @Override
+    public void reset() {
+        history.take();
+        generation++;
+    }
+
+    @Override
+    public int chooseMove(Game game, Player player, long budgetMillis) {
+        return prepareMove(game, player, budgetMillis).getAsInt();
+    }
+
+    /**
+     * Captures the legal moves, the opponent's replies and the observation of the player on the game's loop.
+     * Like the search, it only draws when no card can be played.
+     * The returned decision searches until the budget runs out without reading the game.
+     */
+    @Override
+    public IntSupplier prepareMove(Game game, Player player, long budgetMillis) {
+        int count = game.legalMoves(player, moves);
+        if (count == 0) {
+            return () -> Move.DRAW;
+        }
+        int[] legal = Arrays.copyOf(moves, count > 1 ? count - 1 : 1);
+        int[] opponentMoves = history.take();
+        Observation observation = legal.length > 1 ? new Observation(game, player) : null;
+        long budget = budgetMillis > 0 ? budgetMillis : defaultBudgetMillis;
+        int decisionGeneration = generation;
+        return () -> search(legal, opponentMoves, observation, budget, decisionGeneration);
+    }
+
+    /**
+     * Moves the trees down to the current position, searches it and picks the move visited most.
+     * @param legal the legal moves of the searching player
+     * @param opponentMoves the opponent's moves since the last decision
+     * @param observation what the searching player knows, or null when there is a single legal move
+     * @param budget the thinking time in milliseconds
+     * @param decisionGeneration the number of resets seen when the decision was prepared
+     * @return the chosen move
+     */
+    private synchronized int search(int[] legal, int[] opponentMoves, Observation observation, long budget,
+                                    int decisionGeneration) {
+        if (decisionGeneration != treeGeneration) {
+            treeGeneration = decisionGeneration;
+            lastMove = -1;
+            for (Searcher searcher : searchers) {
+                searcher.root = new Node(null, -1, -1);
+            }
+        }
+        for (Searcher searcher : searchers) {
+            searcher.advance(lastMove, opponentMoves);
+        }
+        if (legal.length == 1) {
+            lastMove = legal[0];
+            return lastMove;
+        }
+
+        long deadline = System.nanoTime() + budget * 1_000_000L;
+        CompletableFuture<?>[] helpers = new CompletableFuture<?>[searchers.length - 1];
+        for (int i = 1; i < searchers.length; i++) {
+            Searcher searcher = searchers[i];
+            helpers[i - 1] = CompletableFuture.runAsync(() -> searcher.search(observation, deadline), SEARCH_POOL);
+        }
+        searchers[0].search(observation, deadline);
+        CompletableFuture.allOf(helpers).join();
+
+        int best = legal[0];
+        long bestVisits = -1;
+        for (int move : legal) {
+            long visits = 0;
+            for (Searcher searcher : searchers) {
+                Node child = searcher.root.child(Determinization.SEARCHER, move);
+                visits += child == null ? 0 : child.visits;
+            }
+            if (visits > bestVisits) {
+                best = move;
+                bestVisits = visits;
+            }
+        }
+        lastMove = best;
+        return best;
+    }
+
+    /**
+     * Gets the total number of playouts stored under the current roots.
+     * @return the number of visits of all search trees
+     */
+    public synchronized long getRootVisits() {
+        long visits = 0;
+        for (Searcher searcher : searchers) {
+            visits += searcher.root.visits;
+        }
+        return visits;
+    }
+
+    /**
+     * One search thread's tree, random source and scratch state.
+     */
+    private static final class Searcher {
+        private final SplittableRandom random;
+        private final Determinization state;
+        private final int[] moves = new int[Move.MAX_MOVES];
+        private final int[] untried = new int[Move.MAX_MOVES];
+        private final Node[] children = new Node[Move.MAX_MOVES];
+        private Node root = new Node(null, -1, -1);
+
+        Searcher(SplittableRandom random) {
+            this.random = random;
+            this.state = new Determinization(random);
+        }
+
+        /**
+         * Moves the root down to the subtree reached by the searcher's last move and the opponent's replies,
+         * or starts a new tree when that subtree was never explored.
+         */
+        void advance(int lastMove, int[] opponentMoves) {
+            Node node = lastMove < 0 ? null : root.child(Determinization.SEARCHER, lastMove);
+            for (int i = 0; i < opponentMoves.length && node != null; i++) {
+                node = node.child(Determinization.OPPONENT, opponentMoves[i]);
+            }
+            if (node == null) {
+                root = new Node(null, -1, -1);
+            } else {
+                node.parent = null;
+                root = node;
+            }
+        }
+
+        void search(Observation observation, long deadline) {
+            int iterations = 0;
+            do {
+                iterate(observation);
+                iterations++;
+            } while ((iterations & 15) != 0 || System.nanoTime() < deadline);
+        }
+
+        private void iterate(Observation observation) {
+            state.sample(observation);
+            Node node = root;
+            while (!state.isOver()) {
+                int seat = state.toMove();
+                int count = state.legalMoves(moves);
+                int untriedCount = 0;
+                for (int i = 0; i < count; i++) {
+                    Node child = node.child(seat, moves[i]);
+                    children[i] = child;
+                    if (child == null) {
+                        untried[untriedCount++] = moves[i];
+                    } else {
+                        child.availability++;
+                    }
+                }
+                if (untriedCount > 0) {
+                    int move = untried[random.nextInt(untriedCount)];
+                    node = node.addChild(seat, move);
+                    node.availability++;
+                    state.apply(move);
+                    break;
+                }
+                Node best = children[0];
+                double bestScore = best.ucb(EXPLORATION);
+                for (int i = 1; i < count; i++) {
+                    double score = children[i].ucb(EXPLORATION);
+                    if (score > bestScore) {
+                        best = children[i];
+                        bestScore = score;
+                    }
+                }
+                state.apply(best.move);
+                node = best;
+            }
+
+            int winner = state.isOver() ? state.winner() : state.rollout(ROLLOUT_LIMIT);
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                if (n.seat >= 0) {
+                    n.reward += winner == n.seat ? 1 : winner < 0 ? 0.5 : 0;
+                }
+            }
+        }
+    }
+
+    /**
+     * Records the opponent's moves between two decisions, so the search trees can follow them.
+     * Forced draws are not moves and are ignored; a voluntary draw is reported with the drawn card.
+     */
+    private static final class OpponentHistory implements GameObserver {
+        private final List<Integer> moves = new ArrayList<>();
+        private Player player;
+        private CardColor selectedColor;
+
+        synchronized int[] take() {
+            int[] taken = moves.stream().mapToInt(Integer::intValue).toArray();
+            moves.clear();
+            return taken;
+        }
+
+        @Override
+        public synchronized void onColorSelected(Player player, CardColor color) {
+            if (player != this.player) {
+                selectedColor = color;
+            }
+        }
+
+        @Override
+        public synchronized void onCardPlayed(Player player, Card card) {
+            if (player != this.player) {
+                moves.add(card.getColor() == CardColor.WILD ? Move.play(card.getId(), selectedColor) : Move.play(card));
+            }
+        }
+
+        @Override
+        public synchronized void onCardDrawn(Player player, Card card) {
+            if (player != this.player && card != null) {
+                moves.add(Move.DRAW);
+            }
+        }
+
+        @Override
+        public void onTurnStarted(Player player) {
+        }
+
+        @Override
+        public void onUnoCalled(Player player) {
+        }
+
+        @Override
+        public void onGameOver(Player winner) {
+        }
+    }
+}
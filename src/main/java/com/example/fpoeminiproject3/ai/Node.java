@@ -0,0 +1,61 @@
+package com.example.fpoeminiproject3.ai;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A node of an information-set search tree, reached by a move of a given seat.
+ * Children are keyed by seat and move, since whose turn follows a draw depends on the card drawn.
+ */
+final class Node {
+    final int seat;
+    final int move;
+    Node parent;
+    final List<Node> children = new ArrayList<>();
+    int visits;
+    int availability;
+    double reward;
+
+    Node(Node parent, int seat, int move) {
+        this.parent = parent;
+        this.seat = seat;
+        this.move = move;
+    }
+
+    /**
+     * Finds the child reached by a move.
+     * @param seat the seat making the move
+     * @param move the encoded move
+     * @return the child, or null if it was never expanded
+     */
+    Node child(int seat, int move) {
+        for (int i = 0; i < children.size(); i++) {
+            Node child = children.get(i);
+            if (child.move == move && child.seat == seat) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Adds a child for a move that was not expanded yet.
+     * @param seat the seat making the move
+     * @param move the encoded move
+     * @return the new child
+     */
+    Node addChild(int seat, int move) {
+        Node child = new Node(this, seat, move);
+        children.add(child);
+        return child;
+    }
+
+    /**
+     * Computes the upper confidence bound of this node, using how often it was available as the parent count.
+     * @param exploration the exploration constant
+     * @return the selection score
+     */
+    double ucb(double exploration) {
+        return reward / visits + exploration * Math.sqrt(Math.log(availability) / visits);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+
+/**
+ * What a player knows of a game when it is their turn, kept as a snapshot of the whole game.
+ * The snapshot also holds the cards the player can't see, which a {@link Determinization} deals again
+ * before playing on it.
+ */
+final class Observation {
+    final byte[] snapshot;
+    final boolean machineSeat;
+
+    /**
+     * Captures the game as seen by a player.
+     * @param game the game being played
+     * @param player the player to move
+     */
+    Observation(Game game, Player player) {
+        snapshot = game.save();
+        machineSeat = player == game.getMachinePlayer();
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.RandomStrategy;
+import com.example.fpoeminiproject3.model.Strategy;
+
+import java.util.SplittableRandom;
+
+/**
+ * Creates strategies by name, for command line tools and configuration.
+ */
+public final class Strategies {
+    /**
+     * Names accepted by {@link #create(String, SplittableRandom, int, long)}.
+     */
+    public static final String[] NAMES = {"random", "greedy", "heuristic", "ismcts"};
+
+    private Strategies() {
+    }
+
+    /**
+     * Checks that a strategy name is known.
+     * @param name the name to check
+     * @throws IllegalArgumentException if the name is not one of {@link #NAMES}
+     */
+    public static void requireKnown(String name) {
+        for (String known : NAMES) {
+            if (known.equals(name)) {
+                return;
+            }
+        }
+        throw new IllegalArgumentException("Unknown strategy: " + name);
+    }
+
+    /**
+     * Creates a strategy.
+     * @param name one of {@link #NAMES}
+     * @param random the random source of the strategy
+     * @param searchThreads the number of search threads of the ISMCTS strategy
+     * @param budgetMillis the default thinking time of the ISMCTS strategy
+     * @return the new strategy
+     * @throws IllegalArgumentException if the name is unknown
+     */
+    public static Strategy create(String name, SplittableRandom random, int searchThreads, long budgetMillis) {
+        switch (name) {
+            case "random":
+                return new RandomStrategy(random);
+            case "greedy":
+                return new GreedyStrategy(random);
+            case "heuristic":
+                return new HeuristicStrategy();
+            case "ismcts":
+                return new IsmctsStrategy(random, searchThreads, budgetMillis);
+            default:
+                throw new IllegalArgumentException("Unknown strategy: " + name);
+        }
+    }
+}
@@ -1,15 +1,33 @@
 package com.example.fpoeminiproject3.controller;
 
 import com.example.fpoeminiproject3.model.*;
+import com.example.fpoeminiproject3.view.FrameDispatcher;
 import com.example.fpoeminiproject3.view.GameView;
-import javafx.application.Platform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * It implements the GameObserver interface to respond to game state changes.
+ * User actions are submitted to the game's loop, and notifications, which arrive on that loop,
+ * mark the regions of the view they change so the next frame renders them from the latest snapshot.
  */
 public class GameController implements GameObserver {
+    private static final Path SAVE_FILE = Path.of(System.getProperty("user.home"), "uno-save.bin");
+    private static final ExecutorService DISK = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "uno-save");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Game game;
     private final GameView view;
+    private Card selectedWild;
 
     /**
      * Constructs a GameController with the specified game model and view.
@@ -23,30 +41,36 @@ public class GameController implements GameObserver {
     }
 
     /**
-     * Initializes the controller and updates the view with the current player.
+     * Initializes the controller and renders the whole view from the current state.
      */
     public void initialize() {
-        view.updateCurrentPlayer(game.getCurrentPlayer());
+        view.invalidate(game.getState(), FrameDispatcher.ALL);
     }
 
     /**
      * Handles card selection by the human player.
+     * A card that can't be played is rejected right away from the published state, without a trip to the game's loop.
      * If the card is a WILD card, shows color selection dialog.
      * Otherwise, attempts to play the selected card.
      * @param card the card that was selected by the player
      */
     public void handleCardSelection(Card card) {
-        try {
-            game.getHumanPlayer().selectCard(card);
-            if (game.getCurrentPlayer() == game.getHumanPlayer()) {
-                if (card.getColor() == CardColor.WILD) {
-                    view.showColorSelectionDialog();
-                } else {
-                    game.playCard(game.getHumanPlayer(), card);
-                }
-            }
-        } catch (GameException e) {
-            view.showTemporaryMessage(e.getMessage(), 2);
+        HumanPlayer human = game.getHumanPlayer();
+        GameState state = game.getState();
+        if (state.currentPlayer() != human) {
+            return;
+        }
+        if (!state.isPlayableByHuman(card)) {
+            view.showTemporaryMessage(state.topCard().getColor() == CardColor.WILD
+                    ? "You should put a card of the color " + state.currentColor()
+                    : "You can't put that card", 2);
+            return;
+        }
+        if (card.getColor() == CardColor.WILD) {
+            selectedWild = card;
+            view.showColorSelectionDialog();
+        } else {
+            report(game.playCardAsync(human, card, null));
         }
     }
 
@@ -54,12 +78,9 @@ public class GameController implements GameObserver {
      * Handles the draw card action for the human player.
      */
     public void handleDrawCard() {
-        if (game.getCurrentPlayer() == game.getHumanPlayer()) {
-            try {
-                game.drawCard(game.getHumanPlayer());
-            } catch (GameException e) {
-                view.showTemporaryMessage(e.getMessage(), 2);
-            }
+        HumanPlayer human = game.getHumanPlayer();
+        if (game.getState().currentPlayer() == human) {
+            report(game.drawCardAsync(human));
         }
     }
 
@@ -67,8 +88,13 @@ public class GameController implements GameObserver {
      * Handles the UNO call action for the human player and hides the UNO button if called successfully.
      */
     public void handleUnoCall() {
-        if (game.getHumanPlayer().getDeckSize() == 1) {
-            game.callUno(game.getHumanPlayer());
+        if (game.getState().humanCards().size() == 1) {
+            HumanPlayer human = game.getHumanPlayer();
+            game.submit(() -> {
+                if (human.getDeckSize() == 1) {
+                    game.callUno(human);
+                }
+            }, this::showRejection);
             view.hideUnoButton();
         }
     }
@@ -77,7 +103,14 @@ public class GameController implements GameObserver {
      * Handles the UNO timeout when the player fails to call UNO in time.
      */
     public void handleUnoTimeout() {
-        game.checkUnoPenalty(game.getHumanPlayer());
+        game.submit(() -> game.checkUnoPenalty(game.getHumanPlayer()), this::showRejection);
+    }
+
+    /**
+     * Handles the human player pressing the button to penalize the machine for not calling UNO.
+     */
+    public void handleMachineUnoPenalty() {
+        game.submit(() -> game.checkUnoPenalty(game.getMachinePlayer()), this::showRejection);
     }
 
     /**
@@ -85,11 +118,78 @@ public class GameController implements GameObserver {
      * @param color the selected color for the WILD card
      */
     public void handleColorSelection(CardColor color) {
-        try {
-            game.playCard(game.getHumanPlayer(), game.getHumanPlayer().getSelectedCard());
-        } catch (GameException e) {
-            view.showTemporaryMessage(e.getMessage(), 2);
+        if (selectedWild != null) {
+            report(game.playCardAsync(game.getHumanPlayer(), selectedWild, color));
+            selectedWild = null;
+        }
+    }
+
+    /**
+     * Saves the game to a file in the user's home directory.
+     * The snapshot is taken on the game's loop and written on the disk thread, so the loop never waits for the disk.
+     */
+    public void handleSave() {
+        game.submit(() -> {
+            byte[] snapshot = game.save();
+            DISK.execute(() -> {
+                try {
+                    Files.write(SAVE_FILE, snapshot);
+                    view.showTemporaryMessage("Game saved", 2);
+                } catch (IOException e) {
+                    view.showTemporaryMessage("The game could not be saved", 2);
+                }
+            });
+        }, this::showRejection);
+    }
+
+    /**
+     * Restores the game saved by {@link #handleSave()} and redraws both hands.
+     * The file is read on the disk thread and only the restore runs on the game's loop.
+     */
+    public void handleLoad() {
+        if (game.getState().winner() != null) {
+            view.showTemporaryMessage("The game is over", 2);
+            return;
         }
+        DISK.execute(() -> {
+            byte[] snapshot;
+            try {
+                snapshot = Files.readAllBytes(SAVE_FILE);
+            } catch (IOException e) {
+                view.showTemporaryMessage("There is no saved game to load", 2);
+                return;
+            }
+            game.submit(() -> {
+                try {
+                    game.restore(snapshot, 0);
+                } catch (IllegalArgumentException e) {
+                    throw new GameException("There is no saved game to load");
+                }
+                view.invalidate(game.getState(), FrameDispatcher.ALL);
+                view.showTemporaryMessage("Game loaded", 2);
+            }, this::showRejection);
+        });
+    }
+
+    /**
+     * Shows a message if an asynchronous move is rejected.
+     * @param move the pending move
+     */
+    private void report(CompletableFuture<GameState> move) {
+        move.whenComplete((state, error) -> {
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause != null) {
+                view.showTemporaryMessage(cause.getMessage(), 2);
+            }
+        });
+    }
+
+    /**
+     * Shows the reason a command was rejected by the game.
+     * @param e the exception raised by the game
+     */
+    private void showRejection(GameException e) {
+        view.showTemporaryMessage(e.getMessage(), 2);
     }
 
     /**
@@ -98,17 +198,8 @@ public class GameController implements GameObserver {
      */
     @Override
     public void onTurnStarted(Player player) {
-        Platform.runLater(() -> {
-            view.updateCurrentPlayer(player);
-            view.updateDiscardPile(game.getTopDiscardCard());
-            view.hideUnoButton();
-
-            if (game.getHumanPlayer().getDeckSize() == 1) {
-                view.showUnoButtonWithTimeout(game.getHumanPlayer(), 4);
-            } else if (game.getMachinePlayer().getDeckSize() == 1) {
-                view.showUnoButtonWithTimeout(game.getMachinePlayer(), 4);
-            }
-        });
+        view.invalidate(game.getState(), FrameDispatcher.CURRENT_PLAYER | FrameDispatcher.DISCARD_PILE
+                | FrameDispatcher.UNO_BUTTON);
     }
 
     /**
@@ -118,10 +209,7 @@ public class GameController implements GameObserver {
      */
     @Override
     public void onCardPlayed(Player player, Card card) {
-        Platform.runLater(() -> {
-            view.updatePlayerHand(player);
-            view.updateDiscardPile(card);
-        });
+        view.invalidate(game.getState(), handOf(player) | FrameDispatcher.DISCARD_PILE);
     }
 
     /**
@@ -131,7 +219,16 @@ public class GameController implements GameObserver {
      */
     @Override
     public void onCardDrawn(Player player, Card card) {
-        Platform.runLater(() -> view.updatePlayerHand(player));
+        view.invalidate(game.getState(), handOf(player));
+    }
+
+    /**
+     * Gets the view region showing a player's hand.
+     * @param player the player
+     * @return the region of the human or the machine hand
+     */
+    private int handOf(Player player) {
+        return player == game.getHumanPlayer() ? FrameDispatcher.HUMAN_HAND : FrameDispatcher.MACHINE_HAND;
     }
 
     /**
@@ -159,6 +256,6 @@ public class GameController implements GameObserver {
      */
     @Override
     public void onGameOver(Player winner) {
-        view.showGameOver(winner);
+        view.showGameOver(winner, game.getState());
     }
 }
\ No newline at end of file
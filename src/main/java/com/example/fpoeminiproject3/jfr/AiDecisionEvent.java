@@ -0,0 +1,29 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A machine strategy choosing a move, without the presentation delay of a paced game.
+ */
+@Name("com.example.fpoeminiproject3.AiDecision")
+@Label("AI Decision")
+@Category({"UNO", "AI"})
+@Description("A machine strategy choosing a move, without the presentation delay")
+@StackTrace(false)
+public class AiDecisionEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Strategy")
+    public String strategy;
+
+    @Label("Budget")
+    @Timespan(Timespan.MILLISECONDS)
+    public long budget;
+
+    @Label("Move")
+    public String move;
+
+    @Label("Hand Size")
+    public int handSize;
+}
@@ -0,0 +1,23 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A call to draw a card as a player's move.
+ */
+@Name("com.example.fpoeminiproject3.CardDrawn")
+@Label("Card Drawn")
+@Category({"UNO", "Game"})
+@Description("A call to draw a card as a player's move")
+@StackTrace(false)
+public class CardDrawnEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Card")
+    @Description("The card drawn, empty if the draw was rejected")
+    public String card;
+
+    @Label("Hand Size")
+    public int handSize;
+}
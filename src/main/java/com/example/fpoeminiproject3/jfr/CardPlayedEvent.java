@@ -0,0 +1,23 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A call to play a card, including the effects of the card and the notification of the observers.
+ */
+@Name("com.example.fpoeminiproject3.CardPlayed")
+@Label("Card Played")
+@Category({"UNO", "Game"})
+@Description("A call to play a card, including its effects and the notification of the observers")
+@StackTrace(false)
+public class CardPlayedEvent extends Event {
+    @Label("Player")
+    public String player;
+
+    @Label("Card")
+    public String card;
+
+    @Label("Accepted")
+    @Description("False if the game rejected the card")
+    public boolean accepted;
+}
@@ -0,0 +1,16 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * The discard pile shuffled back into an empty draw pile.
+ */
+@Name("com.example.fpoeminiproject3.Reshuffle")
+@Label("Deck Reshuffle")
+@Category({"UNO", "Deck"})
+@Description("The discard pile shuffled back into an empty draw pile")
+public class ReshuffleEvent extends Event {
+    @Label("Cards")
+    @Description("The number of cards moved to the draw pile")
+    public int cards;
+}
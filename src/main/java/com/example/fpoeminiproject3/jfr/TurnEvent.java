@@ -0,0 +1,39 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A player's turn, from its start until the next turn starts or the game is won.
+ */
+@Name("com.example.fpoeminiproject3.Turn")
+@Label("Turn")
+@Category({"UNO", "Game"})
+@Description("A player's turn, from its start until the next turn starts or the game is won")
+@StackTrace(false)
+public class TurnEvent extends Event {
+    private static final EventType TYPE = EventType.getEventType(TurnEvent.class);
+
+    @Label("Player")
+    public String player;
+
+    @Label("Turn")
+    @Description("The number of turns started before this one")
+    public int turn;
+
+    /**
+     * Starts the event of a turn, if turn events are being recorded.
+     * @param player the name of the player whose turn starts
+     * @param turn the turn number
+     * @return the started event, or null if turn events are disabled
+     */
+    public static TurnEvent start(String player, int turn) {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        TurnEvent event = new TurnEvent();
+        event.player = player;
+        event.turn = turn;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.fpoeminiproject3.jfr;
+
+import jdk.jfr.*;
+
+/**
+ * A player given a card for not calling UNO with one card left.
+ */
+@Name("com.example.fpoeminiproject3.UnoPenalty")
+@Label("UNO Penalty")
+@Category({"UNO", "Game"})
+@Description("A player given a card for not calling UNO with one card left")
+@StackTrace(false)
+public class UnoPenaltyEvent extends Event {
+    @Label("Player")
+    public String player;
+}
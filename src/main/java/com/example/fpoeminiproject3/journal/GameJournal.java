@@ -0,0 +1,293 @@
+package com.example.fpoeminiproject3.journal;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Records the events of a game in an append-only, memory-mapped file.
+ * The file starts with a 24 byte header (magic, version, record size, the start time in epoch milliseconds
+ * and the seed of the game, which replays the same deal and machine moves)
+ * followed by 8 byte records: event type, seat, card kind, color and the milliseconds elapsed since the start.
+ * Each record is written with a single store into the mapping, so a crash of the process loses nothing
+ * that was written, and the zero-filled tail of the file marks where the journal ends.
+ * The journal stays open after the game is over, since a restored game goes on; its owner closes it.
+ */
+public class GameJournal implements GameObserver, Closeable {
+    public static final int TURN_STARTED = 1;
+    public static final int CARD_PLAYED = 2;
+    public static final int CARD_DRAWN = 3;
+    public static final int UNO_CALLED = 4;
+    public static final int COLOR_SELECTED = 5;
+    public static final int GAME_OVER = 6;
+    public static final int RESTORED = 7;
+
+    public static final int HUMAN_SEAT = 0;
+    public static final int MACHINE_SEAT = 1;
+    public static final int NONE = 0xFF;
+
+    private static final int MAGIC = 0x554E4F4A;
+    private static final short VERSION = 2;
+    private static final int HEADER_SIZE = 24;
+    private static final int RECORD_SIZE = 8;
+    private static final int INITIAL_CAPACITY = 64 * 1024;
+
+    private final FileChannel channel;
+    private final Player human;
+    private final long startMillis;
+    private MappedByteBuffer buffer;
+
+    /**
+     * Creates a journal file for a game. The caller registers it as an observer of the game.
+     * @param file the file to create, which is overwritten if it exists
+     * @param game the game to record
+     * @throws IOException if the file can't be created or mapped
+     */
+    public GameJournal(Path file, Game game) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        this.human = game.getHumanPlayer();
+        this.startMillis = System.currentTimeMillis();
+        map(INITIAL_CAPACITY);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) RECORD_SIZE).putLong(startMillis)
+                .putLong(game.getSeed());
+    }
+
+    /**
+     * Maps the first bytes of the file, growing it if needed, and keeps the write position.
+     * @param capacity the number of bytes to map
+     * @throws IOException if the file can't be mapped
+     */
+    private void map(int capacity) throws IOException {
+        int position = buffer != null ? buffer.position() : 0;
+        buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        buffer.position(position);
+    }
+
+    /**
+     * Appends a record, doubling the mapping when it is full.
+     * @param type the event type
+     * @param player the player of the event, or null
+     * @param card the card of the event, or null if there is none or it is hidden
+     * @param color the color of the event, or null
+     */
+    private void append(int type, Player player, Card card, CardColor color) {
+        try {
+            if (buffer.remaining() < RECORD_SIZE) {
+                map(buffer.capacity() * 2);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int seat = player == null ? NONE : player == human ? HUMAN_SEAT : MACHINE_SEAT;
+        int cardId = card == null ? NONE : card.getId();
+        int colorId = color == null ? NONE : color.ordinal();
+        long elapsed = System.currentTimeMillis() - startMillis;
+        buffer.putLong(type | seat << 8 | cardId << 16 | (long) colorId << 24 | elapsed << 32);
+    }
+
+    /**
+     * Records the start of a turn.
+     * @param player the player whose turn is starting
+     */
+    @Override
+    public void onTurnStarted(Player player) {
+        append(TURN_STARTED, player, null, null);
+    }
+
+    /**
+     * Records a played card.
+     * @param player the player who played the card
+     * @param card the card that was played
+     */
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        append(CARD_PLAYED, player, card, null);
+    }
+
+    /**
+     * Records a draw, or a penalty when the card is null.
+     * @param player the player who drew the card
+     * @param card the card that was drawn, or null
+     */
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        append(CARD_DRAWN, player, card, null);
+    }
+
+    /**
+     * Records a UNO call.
+     * @param player the player who called UNO
+     */
+    @Override
+    public void onUnoCalled(Player player) {
+        append(UNO_CALLED, player, null, null);
+    }
+
+    /**
+     * Records the color chosen for a wild card.
+     * @param player the player who selected the color
+     * @param color the color that was selected
+     */
+    @Override
+    public void onColorSelected(Player player, CardColor color) {
+        append(COLOR_SELECTED, player, null, color);
+    }
+
+    /**
+     * Records the end of the game.
+     * @param winner the player who won the game
+     */
+    @Override
+    public void onGameOver(Player winner) {
+        append(GAME_OVER, winner, null, null);
+    }
+
+    /**
+     * Records a jump to a restored state, with the player to move, the top card and the active color.
+     * @param player the player whose turn it is in the restored state
+     * @param topCard the top card of the restored discard pile
+     * @param color the active color of the restored state
+     */
+    @Override
+    public void onGameRestored(Player player, Card topCard, CardColor color) {
+        append(RESTORED, player, topCard, color);
+    }
+
+    /**
+     * Flushes the mapping to disk and closes the file.
+     * @throws IOException if the file can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (channel.isOpen()) {
+            buffer.force();
+            channel.close();
+        }
+    }
+
+    /**
+     * A record read back from a journal.
+     * @param type the event type
+     * @param seat the seat of the player, or {@link #NONE}
+     * @param cardId the card kind, or {@link #NONE} if there is none or it was hidden
+     * @param color the color ordinal, or {@link #NONE}
+     * @param elapsedMillis the milliseconds elapsed since the journal was created
+     */
+    public record Event(int type, int seat, int cardId, int color, long elapsedMillis) {
+    }
+
+    /**
+     * Reads all the records of a journal, including one cut short by a crash.
+     * @param file the journal file
+     * @return the records in the order they were written
+     * @throws IOException if the file can't be read or is not a journal
+     */
+    public static List<Event> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = mapHeader(channel, file);
+            buffer.position(HEADER_SIZE);
+            List<Event> events = new ArrayList<>();
+            while (buffer.remaining() >= RECORD_SIZE) {
+                long record = buffer.getLong();
+                int type = (int) (record & 0xFF);
+                if (type == 0) {
+                    break;
+                }
+                events.add(new Event(type, (int) (record >>> 8 & 0xFF), (int) (record >>> 16 & 0xFF),
+                        (int) (record >>> 24 & 0xFF), record >>> 32));
+            }
+            return events;
+        }
+    }
+
+    /**
+     * Reads the seed of the game recorded in a journal.
+     * @param file the journal file
+     * @return the seed of the game
+     * @throws IOException if the file can't be read or is not a journal
+     */
+    public static long readSeed(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return mapHeader(channel, file).getLong(16);
+        }
+    }
+
+    /**
+     * Maps a journal file for reading and checks its header.
+     * @param channel the open file
+     * @param file the path of the file, for error messages
+     * @return the mapping of the whole file
+     * @throws IOException if the file can't be mapped or is not a journal
+     */
+    private static MappedByteBuffer mapHeader(FileChannel channel, Path file) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.remaining() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION) {
+            throw new IOException("Not a game journal: " + file);
+        }
+        return buffer;
+    }
+
+    /**
+     * Replays a journal through an observer, as the game notified it when it was recorded.
+     * Hidden cards are replayed as null.
+     * @param file the journal file
+     * @param human the player to use for the human seat
+     * @param machine the player to use for the machine seat
+     * @param observer the observer receiving the events
+     * @throws IOException if the file can't be read or is not a journal
+     */
+    public static void replay(Path file, Player human, Player machine, GameObserver observer) throws IOException {
+        CardColor[] colors = CardColor.values();
+        for (Event event : read(file)) {
+            Player player = event.seat() == HUMAN_SEAT ? human : event.seat() == MACHINE_SEAT ? machine : null;
+            Card card = event.cardId() == NONE ? null : Card.fromId(event.cardId());
+            switch (event.type()) {
+                case TURN_STARTED -> observer.onTurnStarted(player);
+                case CARD_PLAYED -> observer.onCardPlayed(player, card);
+                case CARD_DRAWN -> observer.onCardDrawn(player, card);
+                case UNO_CALLED -> observer.onUnoCalled(player);
+                case COLOR_SELECTED -> observer.onColorSelected(player, colors[event.color()]);
+                case GAME_OVER -> observer.onGameOver(player);
+                case RESTORED -> observer.onGameRestored(player, card, colors[event.color()]);
+                default -> throw new IOException("Unknown event type " + event.type() + " in " + file);
+            }
+        }
+    }
+
+    /**
+     * Prints the events of a journal, one per line.
+     * @param args the journal file
+     * @throws IOException if the file can't be read or is not a journal
+     */
+    public static void main(String[] args) throws IOException {
+        String[] types = {"?", "TURN", "PLAY", "DRAW", "UNO", "COLOR", "GAME_OVER", "RESTORED"};
+        System.out.println("seed " + readSeed(Path.of(args[0])));
+        for (Event event : read(Path.of(args[0]))) {
+            StringBuilder line = new StringBuilder();
+            line.append(String.format("%8d ms %-9s", event.elapsedMillis(),
+                    event.type() < types.length ? types[event.type()] : "?" + event.type()));
+            if (event.seat() != NONE) {
+                line.append(event.seat() == HUMAN_SEAT ? " human" : " machine");
+            }
+            if (event.cardId() != NONE) {
+                line.append(' ').append(Card.fromId(event.cardId()));
+            }
+            if (event.color() != NONE) {
+                line.append(' ').append(CardColor.values()[event.color()]);
+            }
+            System.out.println(line);
+        }
+    }
+}
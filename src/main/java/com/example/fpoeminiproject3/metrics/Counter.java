@@ -0,0 +1,40 @@
+package com.example.fpoeminiproject3.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A counter that many threads can increment without contending on one memory location.
+ */
+public final class Counter {
+    private final LongAdder count = new LongAdder();
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    /**
+     * Adds a value to the counter.
+     * @param value the amount to add
+     */
+    public void add(long value) {
+        count.add(value);
+    }
+
+    /**
+     * Gets the total of the counter.
+     * @return the sum of everything added so far
+     */
+    public long sum() {
+        return count.sum();
+    }
+
+    /**
+     * Sets the counter back to zero.
+     */
+    public void reset() {
+        count.reset();
+    }
+}
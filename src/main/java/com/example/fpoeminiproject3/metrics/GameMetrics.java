@@ -0,0 +1,156 @@
+package com.example.fpoeminiproject3.metrics;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The metrics of the engine and the UI, shared by every game in the process.
+ * The hot paths record into the static counters and histograms directly; the values are read over JMX
+ * through {@link #register()} or logged periodically through {@link #startLogging(long)}.
+ */
+public final class GameMetrics implements GameMetricsMXBean {
+    /** The time Game.playCard takes, in nanoseconds. */
+    public static final Histogram PLAY_CARD = new Histogram("playCard", "ns");
+    /** The time Game.drawCard takes, in nanoseconds. */
+    public static final Histogram DRAW_CARD = new Histogram("drawCard", "ns");
+    /** The time machine strategies take to choose a move, in nanoseconds. */
+    public static final Histogram AI_DECISION = new Histogram("aiDecision", "ns");
+    /** The time the observers of an event take, in nanoseconds. */
+    public static final Histogram OBSERVER_DISPATCH = new Histogram("observerDispatch", "ns");
+    /** The number of events coalesced into each rendered frame. */
+    public static final Histogram FX_BACKLOG = new Histogram("fxBacklog", "events");
+    /** The number of times the discard pile was shuffled back into the draw pile. */
+    public static final Counter RESHUFFLES = new Counter();
+
+    /** The name the metrics are registered under. */
+    public static final String OBJECT_NAME = "com.example.fpoeminiproject3:type=GameMetrics";
+
+    private static final System.Logger LOGGER = System.getLogger(GameMetrics.class.getName());
+    private static ScheduledExecutorService logger;
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Registers the metrics with the platform MBean server, if they aren't registered yet.
+     */
+    public static synchronized void register() {
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(new GameMetrics(), name);
+            }
+        } catch (JMException e) {
+            System.err.println("Error registering the game metrics: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Logs a summary of the metrics at a fixed rate on a daemon thread, until {@link #stopLogging()}.
+     * @param periodSeconds the time between two log lines
+     */
+    public static synchronized void startLogging(long periodSeconds) {
+        if (logger != null) {
+            return;
+        }
+        logger = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "uno-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        logger.scheduleAtFixedRate(() -> LOGGER.log(System.Logger.Level.INFO, summary()),
+                periodSeconds, periodSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops the periodic log line.
+     */
+    public static synchronized void stopLogging() {
+        if (logger != null) {
+            logger.shutdownNow();
+            logger = null;
+        }
+    }
+
+    /**
+     * Summarizes every metric in one line.
+     * @return the summary
+     */
+    public static String summary() {
+        return PLAY_CARD + "; " + DRAW_CARD + "; " + AI_DECISION + "; " + OBSERVER_DISPATCH + "; "
+                + FX_BACKLOG + "; reshuffles=" + RESHUFFLES.sum();
+    }
+
+    /**
+     * Converts a duration for JMX.
+     * @param nanos the duration in nanoseconds
+     * @return the duration in microseconds
+     */
+    private static long micros(long nanos) {
+        return nanos / 1000;
+    }
+
+    @Override
+    public long getPlayCardCount() {
+        return PLAY_CARD.count();
+    }
+
+    @Override
+    public long getPlayCardP99Micros() {
+        return micros(PLAY_CARD.percentile(99));
+    }
+
+    @Override
+    public long getDrawCardCount() {
+        return DRAW_CARD.count();
+    }
+
+    @Override
+    public long getDrawCardP99Micros() {
+        return micros(DRAW_CARD.percentile(99));
+    }
+
+    @Override
+    public long getAiDecisionCount() {
+        return AI_DECISION.count();
+    }
+
+    @Override
+    public long getAiDecisionP50Micros() {
+        return micros(AI_DECISION.percentile(50));
+    }
+
+    @Override
+    public long getAiDecisionP99Micros() {
+        return micros(AI_DECISION.percentile(99));
+    }
+
+    @Override
+    public long getReshuffleCount() {
+        return RESHUFFLES.sum();
+    }
+
+    @Override
+    public long getObserverDispatchP99Micros() {
+        return micros(OBSERVER_DISPATCH.percentile(99));
+    }
+
+    @Override
+    public long getFxBacklogMax() {
+        return FX_BACKLOG.max();
+    }
+
+    @Override
+    public void reset() {
+        PLAY_CARD.reset();
+        DRAW_CARD.reset();
+        AI_DECISION.reset();
+        OBSERVER_DISPATCH.reset();
+        FX_BACKLOG.reset();
+        RESHUFFLES.reset();
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.fpoeminiproject3.metrics;
+
+/**
+ * The management interface of {@link GameMetrics}. Durations are in microseconds.
+ */
+public interface GameMetricsMXBean {
+
+    /**
+     * Gets the number of cards played.
+     * @return the number of calls to Game.playCard
+     */
+    long getPlayCardCount();
+
+    /**
+     * Gets the 99th percentile of the time to play a card.
+     * @return the duration in microseconds
+     */
+    long getPlayCardP99Micros();
+
+    /**
+     * Gets the number of cards drawn by a player's move.
+     * @return the number of calls to Game.drawCard
+     */
+    long getDrawCardCount();
+
+    /**
+     * Gets the 99th percentile of the time to draw a card.
+     * @return the duration in microseconds
+     */
+    long getDrawCardP99Micros();
+
+    /**
+     * Gets the number of machine decisions.
+     * @return the number of moves chosen by machine strategies
+     */
+    long getAiDecisionCount();
+
+    /**
+     * Gets the median time a machine strategy takes to choose a move, without the presentation delay.
+     * @return the duration in microseconds
+     */
+    long getAiDecisionP50Micros();
+
+    /**
+     * Gets the 99th percentile of the time a machine strategy takes to choose a move.
+     * @return the duration in microseconds
+     */
+    long getAiDecisionP99Micros();
+
+    /**
+     * Gets the number of times the discard pile was shuffled back into the draw pile.
+     * @return the number of reshuffles
+     */
+    long getReshuffleCount();
+
+    /**
+     * Gets the 99th percentile of the time to notify all observers of an event.
+     * @return the duration in microseconds
+     */
+    long getObserverDispatchP99Micros();
+
+    /**
+     * Gets the largest number of events coalesced into one rendered frame.
+     * @return the largest backlog of the FX thread
+     */
+    long getFxBacklogMax();
+
+    /**
+     * Clears all metrics.
+     */
+    void reset();
+}
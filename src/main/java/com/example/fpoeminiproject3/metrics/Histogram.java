@@ -0,0 +1,162 @@
+package com.example.fpoeminiproject3.metrics;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts recorded values in a fixed set of buckets, so recording never allocates and never blocks.
+ * Values below 8 have a bucket each; above that every power of two is split in four buckets,
+ * so a percentile is reported with at most 25% error. Each bucket is a striped counter.
+ */
+public final class Histogram {
+    private static final int EXACT = 8;
+    private static final int SUB_BUCKETS = 4;
+    static final int BUCKET_COUNT = EXACT + (63 - 3) * SUB_BUCKETS;
+
+    private final String name;
+    private final String unit;
+    private final LongAdder[] buckets = new LongAdder[BUCKET_COUNT];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Creates an empty histogram.
+     * @param name the name used in reports
+     * @param unit the unit of the recorded values, used in reports
+     */
+    public Histogram(String name, String unit) {
+        this.name = name;
+        this.unit = unit;
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Records a value. Negative values are counted as zero.
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        buckets[bucketOf(v)].increment();
+        count.increment();
+        sum.add(v);
+        max.accumulate(v);
+    }
+
+    /**
+     * Records the time elapsed since a start time.
+     * @param startNanos the start time, from {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Gets the number of recorded values.
+     * @return the count
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     * @return the mean, or 0 if nothing was recorded
+     */
+    public double mean() {
+        long n = count.sum();
+        return n == 0 ? 0 : sum.sum() / (double) n;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     * @return the maximum, or 0 if nothing was recorded
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Gets a percentile of the recorded values.
+     * @param percentile the percentile, between 0 and 100
+     * @return the upper bound of the bucket holding the percentile, or 0 if nothing was recorded
+     */
+    public long percentile(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (LongAdder bucket : buckets) {
+            bucket.reset();
+        }
+        count.reset();
+        sum.reset();
+        max.reset();
+    }
+
+    /**
+     * Gets the name of the histogram.
+     * @return the name used in reports
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Summarizes the histogram in one line.
+     * @return the count, mean, median, 99th percentile and maximum
+     */
+    @Override
+    public String toString() {
+        return String.format("%s count=%d mean=%.0f p50=%d p99=%d max=%d %s",
+                name, count(), mean(), percentile(50), percentile(99), max(), unit);
+    }
+
+    /**
+     * Finds the bucket of a value.
+     * @param value a non-negative value
+     * @return the bucket index
+     */
+    static int bucketOf(long value) {
+        if (value < EXACT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return EXACT + (exponent - 3) * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Gets the largest value that falls in a bucket.
+     * @param bucket the bucket index
+     * @return the bucket's upper bound
+     */
+    static long upperBound(int bucket) {
+        if (bucket < EXACT) {
+            return bucket;
+        }
+        int exponent = (bucket - EXACT) / SUB_BUCKETS + 3;
+        int sub = (bucket - EXACT) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << (exponent - 2);
+        return lower + (1L << (exponent - 2)) - 1;
+    }
+}
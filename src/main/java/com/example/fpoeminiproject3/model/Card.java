@@ -2,21 +2,103 @@ package com.example.fpoeminiproject3.model;
 
 /**
  * Represents a UNO card with color, type, and associated image path and provides methods to determine card properties and relationships between cards.
+ * Every distinct card kind has a small integer id and a shared instance in a flyweight table, so the engine can
+ * refer to cards by id and reuse the same instances instead of allocating new ones for every game.
  */
 public class Card {
-    private CardColor color;
-    private CardType type;
-    private String imageCardPath;
+    /**
+     * Number of colored card types (numbers, skip, reverse and draw two).
+     */
+    public static final int COLORED_TYPES = CardType.DRAW_TWO.ordinal() + 1;
+
+    /**
+     * Id of the wild card kind.
+     */
+    public static final int WILD_ID = 4 * COLORED_TYPES;
+
+    /**
+     * Id of the wild draw four card kind.
+     */
+    public static final int WILD_DRAW_FOUR_ID = WILD_ID + 1;
+
+    /**
+     * Number of distinct card kinds.
+     */
+    public static final int KIND_COUNT = WILD_DRAW_FOUR_ID + 1;
+
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final CardType[] TYPES = CardType.values();
+    private static final Card[] KINDS = new Card[KIND_COUNT];
+
+    static {
+        for (int i = 0; i < WILD_ID; i++) {
+            KINDS[i] = new Card(COLORS[i / COLORED_TYPES], TYPES[i % COLORED_TYPES]);
+        }
+        KINDS[WILD_ID] = new Card(CardColor.WILD, CardType.WILD);
+        KINDS[WILD_DRAW_FOUR_ID] = new Card(CardColor.WILD, CardType.WILD_DRAW_FOUR);
+    }
+
+    private final CardColor color;
+    private final CardType type;
+    private final int id;
+    private final boolean special;
+    private final String imageCardPath;
 
     /**
      * Constructs a new Card with specified color and type and automatically generates the appropriate image path for the card.
+     * Prefer {@link #of(CardColor, CardType)}, which returns the shared instance of the card kind.
      * @param color the color of the card
      * @param type the type of the card
+     * @throws IllegalArgumentException if the color and type don't form a valid UNO card
      */
     public Card(CardColor color, CardType type) {
         this.color = color;
         this.type = type;
-        this.imageCardPath = ImagePath();
+        this.id = idOf(color, type);
+        this.special = type.ordinal() > CardType.NINE.ordinal();
+        this.imageCardPath = KINDS[id] != null ? KINDS[id].imageCardPath : ImagePath();
+    }
+
+    /**
+     * Gets the shared instance of a card kind.
+     * @param color the color of the card
+     * @param type the type of the card
+     * @return the flyweight Card for that color and type
+     * @throws IllegalArgumentException if the color and type don't form a valid UNO card
+     */
+    public static Card of(CardColor color, CardType type) {
+        return KINDS[idOf(color, type)];
+    }
+
+    /**
+     * Gets the shared instance of a card kind by its id.
+     * @param id the card kind id, between 0 and {@link #KIND_COUNT} - 1
+     * @return the flyweight Card with that id
+     */
+    public static Card fromId(int id) {
+        return KINDS[id];
+    }
+
+    /**
+     * Computes the id of a card kind.
+     * Colored cards take the ids color * {@link #COLORED_TYPES} + type, followed by the two wild cards.
+     * @param color the color of the card
+     * @param type the type of the card
+     * @return the card kind id
+     * @throws IllegalArgumentException if the color and type don't form a valid UNO card
+     */
+    public static int idOf(CardColor color, CardType type) {
+        if (color == CardColor.WILD) {
+            if (type == CardType.WILD) {
+                return WILD_ID;
+            }
+            if (type == CardType.WILD_DRAW_FOUR) {
+                return WILD_DRAW_FOUR_ID;
+            }
+        } else if (type.ordinal() < COLORED_TYPES) {
+            return color.ordinal() * COLORED_TYPES + type.ordinal();
+        }
+        throw new IllegalArgumentException("There is no " + color + " " + type + " card");
     }
 
     /**
@@ -61,6 +143,14 @@ public class Card {
         return type;
     }
 
+    /**
+     * Gets the id of this card's kind.
+     * @return the card kind id
+     */
+    public int getId() {
+        return id;
+    }
+
     /**
      * Gets the image path for this card.
      * @return the path to the card's image resource
@@ -84,9 +174,22 @@ public class Card {
      * @return true if the card is a special action card, false otherwise
      */
     public boolean specialCard() {
-        return type == CardType.SKIP || type == CardType.REVERSE ||
-                type == CardType.WILD || type == CardType.DRAW_TWO ||
-                type == CardType.WILD_DRAW_FOUR;
+        return special;
+    }
+
+    /**
+     * Two cards are equal when they are of the same kind.
+     * @param o the object to compare with
+     * @return true if the other object is a card of the same kind
+     */
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Card && ((Card) o).id == id;
+    }
+
+    @Override
+    public int hashCode() {
+        return id;
     }
 
     /**
@@ -97,4 +200,4 @@ public class Card {
     public String toString() {
         return color + " " + type;
     }
-}
\ No newline at end of file
+}
@@ -1,26 +1,68 @@
 package com.example.fpoeminiproject3.model;
 
+import com.example.fpoeminiproject3.jfr.ReshuffleEvent;
+import com.example.fpoeminiproject3.metrics.GameMetrics;
+
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Stack;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a deck of UNO cards with draw and discard piles.
  * Handles card distribution, discarding, and pile management.
+ * Both piles are fixed-capacity arrays of card kind ids. The draw pile is shuffled lazily: every draw picks a random
+ * remaining card (one step of a Fisher–Yates shuffle), so reshuffling the discard pile is just a buffer swap.
+ * A deck is not thread-safe and must only be used by the thread that owns the game.
  */
 public class CardDeck {
-    private final Stack<Card> drawPile;
-    private final Stack<Card> discardPile;
+    /**
+     * Number of cards in a standard deck.
+     */
+    public static final int SIZE = 64;
+
+    private static final int[] STANDARD_DECK = standardDeck();
+    private static final int[] STANDARD_COUNTS = new int[Card.KIND_COUNT];
+
+    static {
+        for (int id : STANDARD_DECK) {
+            STANDARD_COUNTS[id]++;
+        }
+    }
+
+    private final RandomGenerator random;
+    private final boolean instrumented;
+    private byte[] drawPile;
+    private byte[] discardPile;
+    private int drawSize;
+    private int discardSize;
 
     /**
      * Constructs a new CardDeck with initialized and shuffled cards and creates a standard UNO deck with 64 cards.
      */
     public CardDeck() {
-        drawPile = new Stack<>();
-        discardPile = new Stack<>();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new CardDeck with a standard UNO deck of 64 cards that draws using the given random source.
+     * @param random the random source used to draw cards
+     */
+    public CardDeck(RandomGenerator random) {
+        this(random, true);
+    }
+
+    /**
+     * Constructs a new CardDeck with a standard UNO deck of 64 cards, with or without reshuffle metrics and events.
+     * @param random the random source used to draw cards
+     * @param instrumented true to count reshuffles and record them as flight recorder events
+     */
+    CardDeck(RandomGenerator random, boolean instrumented) {
+        this.random = random;
+        this.instrumented = instrumented;
+        drawPile = new byte[SIZE];
+        discardPile = new byte[SIZE];
         initializeCardDeck();
-        shuffle();
     }
 
     /**
@@ -29,34 +71,51 @@ public class CardDeck {
      * Adds special WILD cards separately.
      */
     private void initializeCardDeck() {
-        drawPile.clear();
+        for (int i = 0; i < SIZE; i++) {
+            drawPile[i] = (byte) STANDARD_DECK[i];
+        }
+        drawSize = SIZE;
+        discardSize = 0;
+    }
+
+    /**
+     * Builds the card kind ids of a standard deck once, so creating a deck allocates no cards.
+     * @return the ids of the 64 cards of a standard deck
+     */
+    private static int[] standardDeck() {
+        List<Integer> ids = new ArrayList<>();
         for (CardColor color : CardColor.values()) {
             if (color == CardColor.WILD) continue;
 
-            drawPile.add(new Card(color, CardType.ZERO));
-            for (int i = 1; i <= 9; i++) {
-                CardType type = CardType.values()[i];
-                drawPile.add(new Card(color, type));
+            for (int i = 0; i <= 9; i++) {
+                ids.add(Card.idOf(color, CardType.values()[i]));
             }
 
-            drawPile.add(new Card(color, CardType.DRAW_TWO));
-            drawPile.add(new Card(color, CardType.DRAW_TWO));
-            drawPile.add(new Card(color, CardType.SKIP));
-            drawPile.add(new Card(color, CardType.REVERSE));
+            ids.add(Card.idOf(color, CardType.DRAW_TWO));
+            ids.add(Card.idOf(color, CardType.DRAW_TWO));
+            ids.add(Card.idOf(color, CardType.SKIP));
+            ids.add(Card.idOf(color, CardType.REVERSE));
         }
 
         for (int i = 0; i < 4; i++) {
-            drawPile.add(new Card(CardColor.WILD, CardType.WILD));
-            drawPile.add(new Card(CardColor.WILD, CardType.WILD_DRAW_FOUR));
+            ids.add(Card.WILD_ID);
+            ids.add(Card.WILD_DRAW_FOUR_ID);
         }
+        return ids.stream().mapToInt(Integer::intValue).toArray();
     }
 
 
     /**
      * Shuffles the draw pile to randomize card order.
+     * Draws are already uniformly random, so this is only needed to randomize the stored order itself.
      */
     public void shuffle() {
-        Collections.shuffle(drawPile);
+        for (int i = drawSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = drawPile[i];
+            drawPile[i] = drawPile[j];
+            drawPile[j] = card;
+        }
     }
 
     /**
@@ -65,10 +124,25 @@ public class CardDeck {
      * @throws IllegalStateException if no cards are available to draw
      */
     public Card drawCard() {
-        if (drawPile.isEmpty()) {
+        return Card.fromId(drawCardId());
+    }
+
+    /**
+     * Draws a single card from the draw pile and returns its kind id.
+     * The card is picked uniformly among the remaining ones and the last card of the pile takes its slot.
+     * @return the id of the drawn card
+     * @throws IllegalStateException if no cards are available to draw
+     */
+    public int drawCardId() {
+        if (drawSize == 0) {
             reshuffleDiscardPile();
         }
-        return drawPile.pop();
+        int last = --drawSize;
+        int index = last == 0 ? 0 : random.nextInt(last + 1);
+        byte card = drawPile[index];
+        drawPile[index] = drawPile[last];
+        drawPile[last] = card;
+        return card;
     }
 
     /**
@@ -77,7 +151,7 @@ public class CardDeck {
      * @return List of drawn Cards
      */
     public List<Card> drawCards(int count) {
-        List<Card> cards = new ArrayList<>();
+        List<Card> cards = new ArrayList<>(count);
         for (int i = 0; i < count; i++) {
             cards.add(drawCard());
         }
@@ -89,7 +163,15 @@ public class CardDeck {
      * @param card the Card to discard
      */
     public void discardCard(Card card) {
-        discardPile.push(card);
+        discardCardId(card.getId());
+    }
+
+    /**
+     * Discards a card to the discard pile by its kind id.
+     * @param id the id of the card to discard
+     */
+    public void discardCardId(int id) {
+        discardPile[discardSize++] = (byte) id;
     }
 
     /**
@@ -97,23 +179,70 @@ public class CardDeck {
      * @return the top Card of discard pile
      */
     public Card getTopDiscardCard() {
-        return discardPile.peek();
+        return Card.fromId(discardPile[discardSize - 1]);
     }
 
     /**
      * Reshuffles the discard pile (except top card) into the draw pile and preserves the top card of discard pile to maintain game state.
+     * Since draws pick random cards, the discard buffer simply becomes the draw buffer.
      * @throws IllegalStateException if there are not enough cards to reshuffle
      */
     private void reshuffleDiscardPile() {
-        if (discardPile.size() <= 1) {
+        if (discardSize <= 1) {
             throw new IllegalStateException("There aren't enough cards to shuffle");
         }
-        Card topCard = discardPile.pop();
-        while (!discardPile.isEmpty()) {
-            drawPile.push(discardPile.pop());
+        if (instrumented) {
+            GameMetrics.RESHUFFLES.increment();
+            ReshuffleEvent event = new ReshuffleEvent();
+            if (event.shouldCommit()) {
+                event.cards = discardSize - 1;
+                event.commit();
+            }
         }
-        shuffle();
-        discardPile.push(topCard);
+        byte topCard = discardPile[discardSize - 1];
+        byte[] emptyPile = drawPile;
+        drawPile = discardPile;
+        drawSize = discardSize - 1;
+        discardPile = emptyPile;
+        discardPile[0] = topCard;
+        discardSize = 1;
+    }
+
+    /**
+     * Writes the kind ids of the draw pile followed by those of the discard pile, keeping their order.
+     * @param buffer the array to write to
+     * @param offset the index of the first card
+     * @return the index after the last card written
+     */
+    public int writeTo(byte[] buffer, int offset) {
+        System.arraycopy(drawPile, 0, buffer, offset, drawSize);
+        System.arraycopy(discardPile, 0, buffer, offset + drawSize, discardSize);
+        return offset + drawSize + discardSize;
+    }
+
+    /**
+     * Replaces both piles with kind ids read from an array, as written by {@link #writeTo(byte[], int)}.
+     * @param buffer the array to read from
+     * @param offset the index of the first card
+     * @param drawSize the number of cards of the draw pile
+     * @param discardSize the number of cards of the discard pile, at least 1
+     * @return the index after the last card read
+     */
+    public int readFrom(byte[] buffer, int offset, int drawSize, int discardSize) {
+        System.arraycopy(buffer, offset, drawPile, 0, drawSize);
+        System.arraycopy(buffer, offset + drawSize, discardPile, 0, discardSize);
+        this.drawSize = drawSize;
+        this.discardSize = discardSize;
+        return offset + drawSize + discardSize;
+    }
+
+    /**
+     * Gets how many cards of a kind a standard deck has.
+     * @param id the card kind id
+     * @return the number of copies of that card in a full deck
+     */
+    public static int countInDeck(int id) {
+        return STANDARD_COUNTS[id];
     }
 
     /**
@@ -121,7 +250,7 @@ public class CardDeck {
      * @return number of cards remaining in draw pile
      */
     public int getDrawPileSize() {
-        return drawPile.size();
+        return drawSize;
     }
 
     /**
@@ -129,6 +258,6 @@ public class CardDeck {
      * @return number of cards in discard pile
      */
     public int getDiscardPileSize() {
-        return discardPile.size();
+        return discardSize;
     }
-}
\ No newline at end of file
+}
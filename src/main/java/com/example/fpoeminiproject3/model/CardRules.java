@@ -0,0 +1,47 @@
+package com.example.fpoeminiproject3.model;
+
+/**
+ * Holds the card matching rules as a precomputed compatibility table.
+ * For every top card kind and active color, the table stores a bitmask of the card kinds that can be played on it,
+ * so checking a move is a single lookup and all the legal cards of a hand are that mask ANDed with the hand's kinds.
+ */
+public final class CardRules {
+    private static final int COLOR_COUNT = CardColor.values().length;
+    private static final long[] PLAYABLE = new long[Card.KIND_COUNT * COLOR_COUNT];
+
+    static {
+        long wildKinds = Hand.kindsOfColor(CardColor.WILD);
+        for (int top = 0; top < Card.KIND_COUNT; top++) {
+            Card topCard = Card.fromId(top);
+            long sameType = topCard.getColor() == CardColor.WILD ? 0 : Hand.kindsOfType(topCard.getType());
+            for (CardColor color : CardColor.values()) {
+                PLAYABLE[top * COLOR_COUNT + color.ordinal()] = Hand.kindsOfColor(color) | sameType | wildKinds;
+            }
+        }
+    }
+
+    private CardRules() {
+    }
+
+    /**
+     * Gets the card kinds that can be played on a top card.
+     * A card can be played if it is wild, matches the active color, or has the same type as a colored top card.
+     * @param topId the kind id of the top card of the discard pile
+     * @param activeColor the current color, which is the chosen color when the top card is wild
+     * @return a mask with bit id set for every playable card kind
+     */
+    public static long playableKinds(int topId, CardColor activeColor) {
+        return PLAYABLE[topId * COLOR_COUNT + activeColor.ordinal()];
+    }
+
+    /**
+     * Checks if a card can be played on a top card.
+     * @param cardId the kind id of the card to play
+     * @param topId the kind id of the top card of the discard pile
+     * @param activeColor the current color
+     * @return true if the card can be played
+     */
+    public static boolean canPlay(int cardId, int topId, CardColor activeColor) {
+        return (playableKinds(topId, activeColor) & (1L << cardId)) != 0;
+    }
+}
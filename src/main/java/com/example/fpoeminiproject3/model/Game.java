@@ -1,49 +1,175 @@
 package com.example.fpoeminiproject3.model;
 
-import javafx.application.Platform;
-import java.util.ArrayList;
+import com.example.fpoeminiproject3.jfr.*;
+import com.example.fpoeminiproject3.metrics.GameMetrics;
+
+import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.random.RandomGenerator;
 
 /**
  * Implements the game logic and notifies observers of state changes through the GameObserver interface.
+ * A paced game has a single writer: changes coming from other threads are submitted as commands to its
+ * {@link GameLoop}, and those threads read the {@link GameState} snapshot published before every notification.
  */
 public class Game {
+    /**
+     * The size of a snapshot: a 16 byte header with the flags, the active color, the pile and hand sizes,
+     * the turn count and the cards drawn by each player, followed by the 64 cards.
+     */
+    public static final int SNAPSHOT_SIZE = 16 + CardDeck.SIZE;
+
+    private static final byte SNAPSHOT_MAGIC = 0x55;
+    private static final byte SNAPSHOT_VERSION = 1;
+    private static final int MACHINE_TURN = 1;
+    private static final int REVERSED = 1 << 1;
+    private static final int HUMAN_CALLED_UNO = 1 << 2;
+    private static final int MACHINE_CALLED_UNO = 1 << 3;
+    private static final int OVER = 1 << 4;
+    private static final int MACHINE_WON = 1 << 5;
+
     private final CardDeck deck;
     private final HumanPlayer humanPlayer;
     private final MachinePlayer aiPlayer;
     private Player currentPlayer;
     private boolean reversed = false;
     private CardColor currentColor;
-    private final List<GameObserver> observers = new ArrayList<>();
+    private Player winner;
+    private int turnCount;
+    private int epoch;
+    private final TurnScheduler scheduler;
+    private final long seed;
+    private final boolean instrumented;
+    private final GameLoop loop;
+    private volatile GameState state;
+    private TurnEvent turnEvent;
+    private final List<GameObserver> observers = new CopyOnWriteArrayList<>();
 
     /**
      * Initializes a new UNO game with a human player and machine opponent.
      * @param playerName The name of the human player
      */
     public Game(String playerName) {
-        this.deck = new CardDeck();
+        this(playerName, true);
+    }
+
+    /**
+     * Initializes a new UNO game with a human player and machine opponent.
+     * A game that is not paced never sleeps nor schedules machine turns,
+     * so it can be driven headlessly by the caller.
+     * @param playerName The name of the human player
+     * @param paced true to play machine turns on the game's scheduler with presentation delays
+     */
+    public Game(String playerName, boolean paced) {
+        this(playerName, paced, new SplittableRandom());
+    }
+
+    /**
+     * Initializes a new UNO game whose seed is drawn from the given random source.
+     * @param playerName The name of the human player
+     * @param paced true to play machine turns on the game's scheduler with presentation delays
+     * @param random the random source the game's seed is drawn from
+     */
+    public Game(String playerName, boolean paced, SplittableRandom random) {
+        this(playerName, paced ? TurnScheduler.paced() : null, random);
+    }
+
+    /**
+     * Initializes a new UNO game from a seed. The same seed always deals and plays the same game,
+     * as long as the machine player keeps its default strategy or a deterministic one.
+     * @param playerName The name of the human player
+     * @param paced true to play machine turns on the game's scheduler with presentation delays
+     * @param seed the seed of every random choice of the game
+     */
+    public Game(String playerName, boolean paced, long seed) {
+        this(playerName, paced ? TurnScheduler.paced() : null, seed);
+    }
+
+    /**
+     * Initializes a new UNO game whose machine turns are played by the given scheduler.
+     * @param playerName The name of the human player
+     * @param scheduler the scheduler that plays machine turns, or null to drive the game headlessly
+     */
+    public Game(String playerName, TurnScheduler scheduler) {
+        this(playerName, scheduler, new SplittableRandom());
+    }
+
+    /**
+     * Initializes a new UNO game whose machine turns are played by the given scheduler
+     * and whose seed is drawn from the given random source.
+     * @param playerName The name of the human player
+     * @param scheduler the scheduler that plays machine turns, or null to drive the game headlessly
+     * @param random the random source the game's seed is drawn from
+     */
+    public Game(String playerName, TurnScheduler scheduler, SplittableRandom random) {
+        this(playerName, scheduler, random.nextLong());
+    }
+
+    /**
+     * Initializes a new UNO game whose machine turns are played by the given scheduler.
+     * The deck, the machine player's choices and its thinking times draw from independent streams split off
+     * one generator created from the seed, so pacing never changes the moves.
+     * @param playerName The name of the human player
+     * @param scheduler the scheduler that plays machine turns, or null to drive the game headlessly
+     * @param seed the seed of every random choice of the game
+     */
+    public Game(String playerName, TurnScheduler scheduler, long seed) {
+        this(playerName, scheduler, seed, true);
+    }
+
+    /**
+     * Initializes a new UNO game, with or without metrics and flight recorder events.
+     * @param playerName The name of the human player
+     * @param scheduler the scheduler that plays machine turns, or null to drive the game headlessly
+     * @param seed the seed of every random choice of the game
+     * @param instrumented true to record metrics and flight recorder events
+     */
+    private Game(String playerName, TurnScheduler scheduler, long seed, boolean instrumented) {
+        this.scheduler = scheduler;
+        this.loop = scheduler != null ? new GameLoop() : null;
+        this.seed = seed;
+        this.instrumented = instrumented;
+        SplittableRandom random = new SplittableRandom(seed);
+        this.deck = new CardDeck(random.split(), instrumented);
         this.humanPlayer = new HumanPlayer(playerName);
-        this.aiPlayer = new MachinePlayer("Computer");
+        this.aiPlayer = new MachinePlayer("Computer", random.split(), random.split());
         humanPlayer.setGame(this);
         aiPlayer.setGame(this);
         dealInitialCards();
         startGame();
     }
 
+    /**
+     * Creates a headless game for a strategy to play hypothetical moves on, usually after restoring a snapshot of
+     * the real game. It records no metrics nor flight recorder events, so its moves are not counted as played.
+     * @param seed the seed of every random choice of the game
+     * @return the new game
+     */
+    public static Game forSearch(long seed) {
+        return new Game("Search", null, seed, false);
+    }
+
     /**
      * Deals initial cards to players and sets up the first discard card.
+     * Special cards turned up while looking for the first discard stay in the discard pile under it.
      */
 
     private void dealInitialCards() {
-        humanPlayer.addCards(deck.drawCards(5));
-        aiPlayer.addCards(deck.drawCards(5));
+        for (int i = 0; i < 5; i++) {
+            humanPlayer.hand.add(deck.drawCardId());
+            aiPlayer.hand.add(deck.drawCardId());
+        }
 
         Card firstCard;
         do {
             firstCard = deck.drawCard();
+            deck.discardCard(firstCard);
         } while (firstCard.specialCard());
 
-        deck.discardCard(firstCard);
         currentColor = firstCard.getColor();
     }
 
@@ -63,13 +189,179 @@ public class Game {
         observers.add(observer);
     }
 
+    /**
+     * Stops sending game state notifications to an observer.
+     * @param observer The observer to remove
+     */
+    public void removeObserver(GameObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Publishes a new snapshot of the game for other threads.
+     * Only paced games publish snapshots; headless games build them on demand.
+     */
+    private void publishState() {
+        if (loop != null) {
+            state = snapshot();
+        }
+    }
+
+    /**
+     * Builds a snapshot of the current state.
+     * @return the snapshot
+     */
+    private GameState snapshot() {
+        return new GameState(turnCount, currentPlayer, deck.getTopDiscardCard(), currentColor,
+                humanPlayer.getCards(), aiPlayer.getDeckSize(), deck.getDrawPileSize(), getPlayableKinds(), winner);
+    }
+
+    /**
+     * Gets the latest snapshot of the game, which is safe to read from any thread.
+     * @return the snapshot published with the last notification, or a fresh one for a headless game
+     */
+    public GameState getState() {
+        return loop != null ? state : snapshot();
+    }
+
+    /**
+     * Runs a command on the game's loop, after the commands already submitted.
+     * A headless game has no loop and runs the command right away on the caller's thread.
+     * @param command the change to apply
+     * @param onRejected called on the loop with the exception if the game rejects the command
+     */
+    public void submit(GameCommand command, Consumer<GameException> onRejected) {
+        Runnable task = () -> {
+            try {
+                command.execute();
+            } catch (GameException e) {
+                onRejected.accept(e);
+            }
+        };
+        if (loop != null) {
+            loop.execute(task);
+        } else {
+            task.run();
+        }
+    }
+
+    /**
+     * Runs a command on the game's loop after a delay measured by the game's scheduler.
+     * A headless game runs the command right away on the caller's thread.
+     * @param command the change to apply
+     * @param delayMillis the delay in milliseconds
+     * @param onRejected called on the loop with the exception if the game rejects the command
+     * @return the pending command, which can be cancelled, or null if it already ran or the scheduler was cancelled
+     */
+    public HashedWheelTimer.Timeout submitLater(GameCommand command, long delayMillis, Consumer<GameException> onRejected) {
+        if (scheduler == null) {
+            submit(command, onRejected);
+            return null;
+        }
+        return scheduler.schedule(() -> submit(command, onRejected), delayMillis);
+    }
+
+    /**
+     * Runs a command on the game's loop and completes with the state it leads to.
+     * A headless game runs the command right away, so the returned future is already complete.
+     * @param command the change to apply
+     * @return a future completed with the snapshot taken after the command, or failed with the exception
+     *         that rejected it
+     */
+    public CompletableFuture<GameState> submitAsync(GameCommand command) {
+        CompletableFuture<GameState> result = new CompletableFuture<>();
+        submit(() -> {
+            try {
+                command.execute();
+                result.complete(getState());
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        }, result::completeExceptionally);
+        return result;
+    }
+
+    /**
+     * Plays a card on the game's loop without blocking the caller.
+     * @param player the player attempting to play
+     * @param card the card to play
+     * @param color the color chosen by a human player for a wild card, or null for any other card
+     * @return a future completed with the resulting state, or failed with the {@link GameException}
+     *         explaining why the move was rejected
+     */
+    public CompletableFuture<GameState> playCardAsync(Player player, Card card, CardColor color) {
+        return submitAsync(() -> {
+            if (player instanceof HumanPlayer human) {
+                human.selectCard(card);
+                human.selectColor(color);
+            }
+            playCard(player, card);
+        });
+    }
+
+    /**
+     * Draws a card on the game's loop without blocking the caller.
+     * @param player the player drawing a card
+     * @return a future completed with the resulting state, or failed with the {@link GameException}
+     *         explaining why the draw was rejected
+     */
+    public CompletableFuture<GameState> drawCardAsync(Player player) {
+        return submitAsync(() -> drawCard(player));
+    }
+
+    /**
+     * Checks if the calling thread is the game's single writer.
+     * @return true on the game's loop, or always for a headless game, which is driven by its caller
+     */
+    public boolean isOnLoop() {
+        return loop == null || loop.inLoop();
+    }
+
     /**
      * Notifies all observers that a new turn has started.
      */
     private void notifyTurnStarted() {
+        endTurnEvent();
+        if (instrumented) {
+            turnEvent = TurnEvent.start(currentPlayer.getName(), turnCount);
+        }
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onTurnStarted(currentPlayer);
         }
+        recordDispatch(start);
+    }
+
+    /**
+     * Notifies all observers that the game jumped to a restored state.
+     */
+    private void notifyRestored() {
+        long start = System.nanoTime();
+        for (GameObserver observer : observers) {
+            observer.onGameRestored(currentPlayer, deck.getTopDiscardCard(), currentColor);
+        }
+        recordDispatch(start);
+    }
+
+    /**
+     * Records how long a notification took to reach every observer.
+     * @param start the {@link System#nanoTime()} before the first observer was called
+     */
+    private void recordDispatch(long start) {
+        if (instrumented) {
+            GameMetrics.OBSERVER_DISPATCH.recordSince(start);
+        }
+    }
+
+    /**
+     * Records the end of the current turn, if its start was recorded.
+     */
+    private void endTurnEvent() {
+        if (turnEvent != null) {
+            turnEvent.commit();
+            turnEvent = null;
+        }
     }
 
     /**
@@ -78,9 +370,12 @@ public class Game {
      * @param card The card that was played
      */
     private void notifyCardPlayed(Player player, Card card) {
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onCardPlayed(player, card);
         }
+        recordDispatch(start);
     }
 
     /**
@@ -89,9 +384,12 @@ public class Game {
      * @param card The card that was drawn
      */
     private void notifyCardDrawn(Player player, Card card) {
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onCardDrawn(player, card);
         }
+        recordDispatch(start);
     }
 
     /**
@@ -99,9 +397,12 @@ public class Game {
      * @param player The player who called UNO
      */
     void notifyUnoCalled(Player player) {
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onUnoCalled(player);
         }
+        recordDispatch(start);
     }
 
     /**
@@ -109,9 +410,12 @@ public class Game {
      * @param winner The winning player
      */
     private void notifyGameOver(Player winner) {
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onGameOver(winner);
         }
+        recordDispatch(start);
     }
 
     /**
@@ -120,44 +424,90 @@ public class Game {
      * @param color The selected color
      */
     private void notifyColorSelected(Player player, CardColor color) {
+        publishState();
+        long start = System.nanoTime();
         for (GameObserver observer : observers) {
             observer.onColorSelected(player, color);
         }
+        recordDispatch(start);
     }
 
     /**
      * Attempts to play a card for the current player.
      * @param player The player attempting to play
      * @param card The card to play
-     * @throws GameException If it's not the player's turn or the move is invalid
+     * @throws GameException If it's not the player's turn, the player doesn't hold the card or the move is invalid
      */
     public void playCard(Player player, Card card) throws GameException {
+        if (!instrumented) {
+            applyCard(player, card);
+            return;
+        }
+        CardPlayedEvent event = new CardPlayedEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean accepted = false;
+        try {
+            applyCard(player, card);
+            accepted = true;
+        } finally {
+            GameMetrics.PLAY_CARD.recordSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.player = player.getName();
+                event.card = card.toString();
+                event.accepted = accepted;
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Plays a card for the current player.
+     * A human player must have selected a color before playing a wild card; the selection is used up by the play.
+     * @param player The player attempting to play
+     * @param card The card to play
+     * @throws GameException If it's not the player's turn, the player doesn't hold the card, the move is invalid
+     *         or no color was selected for a wild card
+     */
+    private void applyCard(Player player, Card card) throws GameException {
+        if (winner != null) {
+            throw new GameException("The game is over.");
+        }
         if (player != currentPlayer) {
             throw new GameException("It's not your turn.");
         }
+        if (player.hand.count(card.getId()) == 0) {
+            throw new GameException("You don't have that card");
+        }
 
         Card topCard = deck.getTopDiscardCard();
 
-        if (card.getColor() != CardColor.WILD) {
+        if (!CardRules.canPlay(card.getId(), topCard.getId(), currentColor)) {
             if (topCard.getColor() == CardColor.WILD) {
-                if (card.getColor() != currentColor) {
-                    throw new GameException("You should put a card of the color " + currentColor);
-                }
-            } else if (!card.similarCard(topCard)) {
-                throw new GameException("You can't put that card");
+                throw new GameException("You should put a card of the color " + currentColor);
+            }
+            throw new GameException("You can't put that card");
+        }
+
+        CardColor selectedColor = null;
+        if (card.getColor() == CardColor.WILD) {
+            if (player instanceof MachinePlayer) {
+                selectedColor = ((MachinePlayer)player).chooseColor();
+            } else {
+                selectedColor = ((HumanPlayer)player).takeSelectedCardColor();
+            }
+            if (selectedColor == null || selectedColor == CardColor.WILD) {
+                throw new GameException("Choose a color for the wild card");
             }
         }
 
         player.removeCard(card);
         deck.discardCard(card);
 
-        if (card.getColor() == CardColor.WILD) {
-            CardColor selectedColor;
+        if (selectedColor != null) {
             if (player instanceof MachinePlayer) {
-                selectedColor = ((MachinePlayer)player).chooseColor();
                 showTemporaryMessage(player.getName() + " chooses the color: " + selectedColor, 3);
-            } else {
-                selectedColor = ((HumanPlayer)player).getSelectedCardColor();
             }
             currentColor = selectedColor;
             notifyColorSelected(player, selectedColor);
@@ -169,18 +519,32 @@ public class Game {
         notifyCardPlayed(player, card);
 
         if (player.getDeckSize() == 0) {
-            try {
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
+            winner = player;
+            endTurnEvent();
+            if (scheduler != null) {
+                int scheduled = epoch;
+                submitLater(() -> {
+                    if (epoch == scheduled) {
+                        finish();
+                    }
+                }, scheduler.getTurnDelayMillis(), e -> { });
+            } else {
+                notifyGameOver(winner);
             }
-            notifyGameOver(player);
             return;
         }
 
         switchTurn();
     }
 
+    /**
+     * Announces the winner once the presentation delay after the last card has passed, and stops the scheduler.
+     */
+    private void finish() {
+        notifyGameOver(winner);
+        scheduler.cancel();
+    }
+
     /**
      * Displays a temporary message to observers.
      *
@@ -205,60 +569,219 @@ public class Game {
                 break;
             case DRAW_TWO:
                 Player nextPlayer = getNextPlayer();
-                nextPlayer.addCards(deck.drawCards(2));
+                giveCards(nextPlayer, 2);
                 notifyCardDrawn(nextPlayer, null);
                 switchTurn();
                 break;
             case WILD_DRAW_FOUR:
                 Player next = getNextPlayer();
-                next.addCards(deck.drawCards(4));
+                giveCards(next, 4);
                 notifyCardDrawn(next, null);
                 switchTurn();
                 break;
         }
     }
 
+    /**
+     * Draws cards from the deck straight into a player's hand.
+     * @param player The player receiving the cards
+     * @param count The number of cards to draw
+     */
+    private void giveCards(Player player, int count) {
+        for (int i = 0; i < count; i++) {
+            player.hand.add(deck.drawCardId());
+        }
+        player.cardsDrawn += count;
+    }
+
     /**
      * Draws a card for the current player.
      * @param player The player drawing the card
      * @throws GameException If it's not the player's turn
      */
     public void drawCard(Player player) throws GameException {
+        if (!instrumented) {
+            applyDraw(player);
+            return;
+        }
+        CardDrawnEvent event = new CardDrawnEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Card drawnCard = null;
+        try {
+            drawnCard = applyDraw(player);
+        } finally {
+            GameMetrics.DRAW_CARD.recordSince(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.player = player.getName();
+                event.card = drawnCard != null ? drawnCard.toString() : "";
+                event.handSize = player.getDeckSize();
+                event.commit();
+            }
+        }
+    }
+
+    /**
+     * Draws a card for the current player.
+     * @param player The player drawing the card
+     * @return the card drawn
+     * @throws GameException If it's not the player's turn
+     */
+    private Card applyDraw(Player player) throws GameException {
+        if (winner != null) {
+            throw new GameException("The game is over.");
+        }
         if (player != currentPlayer) {
             throw new GameException("It's not your turn.");
         }
 
         Card drawnCard = deck.drawCard();
         player.addCard(drawnCard);
+        player.cardsDrawn++;
 
-        if (player instanceof MachinePlayer && drawnCard.similarCard(deck.getTopDiscardCard())) {
+        if (player instanceof MachinePlayer && isPlayable(drawnCard)) {
             playCard(player, drawnCard);
-            return;
+            return drawnCard;
         }
 
         switchTurn();
         notifyCardDrawn(player, drawnCard);
+        return drawnCard;
     }
 
     /**
      * Advances the game to the next player's turn.
-     * Automatically triggers machine turn if next player is computer.
+     * Schedules the machine turn if next player is computer and the game has a scheduler.
      */
     private void switchTurn() {
         currentPlayer = getNextPlayer();
+        turnCount++;
         notifyTurnStarted();
 
-        if (currentPlayer instanceof MachinePlayer) {
-            new Thread(() -> {
-                try {
-                    Thread.sleep(1000);
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-                if (currentPlayer instanceof MachinePlayer) {
+        scheduleMachineTurn();
+    }
+
+    /**
+     * Schedules the machine turn if the current player is the computer and the game has a scheduler.
+     * The turn is dropped if the game is restored before it runs.
+     */
+    private void scheduleMachineTurn() {
+        if (scheduler != null && currentPlayer instanceof MachinePlayer) {
+            int scheduled = epoch;
+            submitLater(() -> {
+                if (epoch == scheduled && currentPlayer instanceof MachinePlayer && !isOver()) {
                     currentPlayer.playTurn();
                 }
-            }).start();
+            }, scheduler.getTurnDelayMillis(), e -> { });
+        }
+    }
+
+    /**
+     * Writes the complete state of the game into a new snapshot.
+     * @return an array of {@link #SNAPSHOT_SIZE} bytes
+     */
+    public byte[] save() {
+        byte[] snapshot = new byte[SNAPSHOT_SIZE];
+        save(snapshot, 0);
+        return snapshot;
+    }
+
+    /**
+     * Writes the complete state of the game: both piles in order, both hands, the current player and color,
+     * the reversed flag, the UNO calls, the winner and the turn and draw counters.
+     * The random sources and the selections of the human player are not part of the snapshot.
+     * @param buffer the array to write to, with room for {@link #SNAPSHOT_SIZE} bytes
+     * @param offset the index of the first byte
+     */
+    public void save(byte[] buffer, int offset) {
+        int flags = (currentPlayer == aiPlayer ? MACHINE_TURN : 0)
+                | (reversed ? REVERSED : 0)
+                | (humanPlayer.calledUno ? HUMAN_CALLED_UNO : 0)
+                | (aiPlayer.calledUno ? MACHINE_CALLED_UNO : 0)
+                | (winner != null ? OVER : 0)
+                | (winner == aiPlayer ? MACHINE_WON : 0);
+        buffer[offset] = SNAPSHOT_MAGIC;
+        buffer[offset + 1] = SNAPSHOT_VERSION;
+        buffer[offset + 2] = (byte) flags;
+        buffer[offset + 3] = (byte) currentColor.ordinal();
+        buffer[offset + 4] = (byte) deck.getDrawPileSize();
+        buffer[offset + 5] = (byte) deck.getDiscardPileSize();
+        buffer[offset + 6] = (byte) humanPlayer.getDeckSize();
+        buffer[offset + 7] = (byte) aiPlayer.getDeckSize();
+        ByteBuffer.wrap(buffer)
+                .putInt(offset + 8, turnCount)
+                .putShort(offset + 12, (short) humanPlayer.cardsDrawn)
+                .putShort(offset + 14, (short) aiPlayer.cardsDrawn);
+        int position = deck.writeTo(buffer, offset + 16);
+        position = humanPlayer.hand.writeTo(buffer, position);
+        aiPlayer.hand.writeTo(buffer, position);
+    }
+
+    /**
+     * Replaces the state of the game with a snapshot written by {@link #save(byte[], int)}.
+     * Observers are told that the restored turn started and the machine strategy is reset.
+     * Machine turns and other delayed work planned for the replaced state are dropped.
+     * In a paced game it must be called on the game's loop, for example through {@link #submit}.
+     * @param buffer the array holding the snapshot
+     * @param offset the index of the first byte
+     * @throws IllegalArgumentException if the bytes are not a valid snapshot; the game is then left unchanged
+     */
+    public void restore(byte[] buffer, int offset) {
+        validateSnapshot(buffer, offset);
+        int flags = buffer[offset + 2];
+        int color = buffer[offset + 3] & 0xFF;
+        int drawSize = buffer[offset + 4];
+        int discardSize = buffer[offset + 5];
+        ByteBuffer bytes = ByteBuffer.wrap(buffer);
+
+        int position = deck.readFrom(buffer, offset + 16, drawSize, discardSize);
+        position = humanPlayer.hand.readFrom(buffer, position, buffer[offset + 6]);
+        aiPlayer.hand.readFrom(buffer, position, buffer[offset + 7]);
+        currentPlayer = (flags & MACHINE_TURN) != 0 ? aiPlayer : humanPlayer;
+        currentColor = CardColor.values()[color];
+        reversed = (flags & REVERSED) != 0;
+        humanPlayer.calledUno = (flags & HUMAN_CALLED_UNO) != 0;
+        aiPlayer.calledUno = (flags & MACHINE_CALLED_UNO) != 0;
+        winner = (flags & OVER) == 0 ? null : (flags & MACHINE_WON) != 0 ? aiPlayer : humanPlayer;
+        turnCount = bytes.getInt(offset + 8);
+        humanPlayer.cardsDrawn = bytes.getShort(offset + 12);
+        aiPlayer.cardsDrawn = bytes.getShort(offset + 14);
+
+        epoch++;
+        aiPlayer.getStrategy().reset();
+        notifyRestored();
+        notifyTurnStarted();
+        if (winner == null) {
+            scheduleMachineTurn();
+        }
+    }
+
+    /**
+     * Checks that a snapshot has the right header and holds exactly the cards of a deck.
+     * @param buffer the array holding the snapshot
+     * @param offset the index of the first byte
+     * @throws IllegalArgumentException if the bytes are not a valid snapshot
+     */
+    private static void validateSnapshot(byte[] buffer, int offset) {
+        if (offset < 0 || buffer.length - offset < SNAPSHOT_SIZE
+                || buffer[offset] != SNAPSHOT_MAGIC || buffer[offset + 1] != SNAPSHOT_VERSION) {
+            throw new IllegalArgumentException("Not a game snapshot");
+        }
+        int color = buffer[offset + 3] & 0xFF;
+        int drawSize = buffer[offset + 4];
+        int discardSize = buffer[offset + 5];
+        int sizes = drawSize + discardSize + buffer[offset + 6] + buffer[offset + 7];
+        if (color >= CardColor.WILD.ordinal() || discardSize < 1
+                || Math.min(drawSize, Math.min(buffer[offset + 6], buffer[offset + 7])) < 0 || sizes != CardDeck.SIZE) {
+            throw new IllegalArgumentException("Corrupted game snapshot");
+        }
+        int[] counts = new int[Card.KIND_COUNT];
+        for (int i = offset + 16; i < offset + SNAPSHOT_SIZE; i++) {
+            int id = buffer[i];
+            if (id < 0 || id >= Card.KIND_COUNT || ++counts[id] > CardDeck.countInDeck(id)) {
+                throw new IllegalArgumentException("Corrupted game snapshot");
+            }
         }
     }
 
@@ -282,26 +805,107 @@ public class Game {
     /**
      * Checks and applies UNO penalty if player didn't call UNO with one card.
      * @param player The player to check
+     * @throws IllegalStateException if there are no cards left to draw for the penalty
      */
     public void checkUnoPenalty(Player player) {
-        Platform.runLater(() -> {
-            if (player.getDeckSize() == 1 && !player.calledUno()) {
-                try {
-                    player.addCard(deck.drawCard());
-                    notifyCardDrawn(player, null);
-                    showTemporaryMessage(
-                            player.getName() + " doesn't said UNO! +1 card",
-                            2
-                    );
-                } catch (Exception e) {
-                    System.err.println("Error when applying penalty UNO: " + e.getMessage());
-                }
+        if (player.getDeckSize() == 1 && !player.calledUno()) {
+            UnoPenaltyEvent event = new UnoPenaltyEvent();
+            if (event.shouldCommit()) {
+                event.player = player.getName();
+                event.commit();
             }
+            giveCards(player, 1);
+            notifyCardDrawn(player, null);
+            showTemporaryMessage(
+                    player.getName() + " doesn't said UNO! +1 card",
+                    2
+            );
+        }
 
-            if (player instanceof HumanPlayer) {
-                ((HumanPlayer)player).resetUnoState();
-            }
-        });
+        if (player instanceof HumanPlayer) {
+            ((HumanPlayer)player).resetUnoState();
+        }
+    }
+
+    /**
+     * Writes the legal moves of a player into a caller-supplied buffer, without allocating:
+     * every playable card of the player's hand, wild cards once per color, and last {@link Move#DRAW},
+     * since {@link #drawCard} accepts a draw at any time. A strategy that only draws when stuck leaves out
+     * the last move unless it is the only one.
+     * In a paced game it must be called on the game's loop; other threads use {@link GameState#legalMoves}.
+     * @param player the player to move
+     * @param moves the buffer to fill, of at least {@link Move#MAX_MOVES} entries
+     * @return the number of moves written, 0 if it isn't the player's turn or the game is over
+     */
+    public int legalMoves(Player player, int[] moves) {
+        if (winner != null || player != currentPlayer) {
+            return 0;
+        }
+        int count = Move.plays(player.getHand().kindMask() & getPlayableKinds(), moves);
+        moves[count] = Move.DRAW;
+        return count + 1;
+    }
+
+    /**
+     * Gets the card kinds that can currently be played on the discard pile.
+     * @return a mask with bit id set for every playable card kind
+     */
+    public long getPlayableKinds() {
+        return CardRules.playableKinds(deck.getTopDiscardCard().getId(), currentColor);
+    }
+
+    /**
+     * Checks if a card can currently be played on the discard pile.
+     * @param card the card to check
+     * @return true if the card can be played
+     */
+    public boolean isPlayable(Card card) {
+        return (getPlayableKinds() & (1L << card.getId())) != 0;
+    }
+
+    /**
+     * Deals the cards a player can't see, the opponent's hand and the draw pile, again at random,
+     * keeping the size of both. A search uses it to sample one of the games the player can't tell apart.
+     * In a paced game it must be called on the game's loop.
+     * @param player the player whose view is kept
+     * @param random the random source used to deal the cards
+     */
+    public void redealHidden(Player player, RandomGenerator random) {
+        Player opponent = getOpponent(player);
+        int drawSize = deck.getDrawPileSize();
+        int discardSize = deck.getDiscardPileSize();
+        byte[] piles = new byte[CardDeck.SIZE];
+        byte[] hidden = new byte[CardDeck.SIZE];
+        deck.writeTo(piles, 0);
+        System.arraycopy(piles, 0, hidden, 0, drawSize);
+        int hiddenSize = opponent.hand.writeTo(hidden, drawSize);
+        for (int i = hiddenSize - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            byte card = hidden[i];
+            hidden[i] = hidden[j];
+            hidden[j] = card;
+        }
+        System.arraycopy(hidden, 0, piles, 0, drawSize);
+        deck.readFrom(piles, 0, drawSize, discardSize);
+        opponent.hand.readFrom(hidden, drawSize, hiddenSize - drawSize);
+        publishState();
+    }
+
+    /**
+     * Gets the number of cards left in the draw pile.
+     * @return the draw pile size
+     */
+    public int getDrawPileSize() {
+        return deck.getDrawPileSize();
+    }
+
+    /**
+     * Gets the opponent of a player.
+     * @param player one of the two players
+     * @return the other player
+     */
+    public Player getOpponent(Player player) {
+        return player == humanPlayer ? aiPlayer : humanPlayer;
     }
 
     /**
@@ -343,4 +947,76 @@ public class Game {
     public CardColor getCurrentColor() {
         return currentColor;
     }
+
+    /**
+     * Checks if machine turns are played by a scheduler rather than by the caller.
+     * @return true if the game is paced, false if it runs headless
+     */
+    public boolean isPaced() {
+        return scheduler != null;
+    }
+
+    /**
+     * Gets the scheduler that plays machine turns and other delayed work of this game.
+     * @return the scheduler, or null if the game runs headless
+     */
+    public TurnScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Gets the seed the game was created from.
+     * @return the seed that reproduces the game
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Derives the seed of one of many games from a root seed, such as the games of a tournament.
+     * The seed depends only on the root and the index, never on the order the games are created in,
+     * so a run is reproduced whatever the number of threads.
+     * @param rootSeed the seed of the whole run
+     * @param index the index of the game in the run
+     * @return the seed of the game
+     */
+    public static long deriveSeed(long rootSeed, long index) {
+        long z = rootSeed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Gets the number of times the game was restored. Delayed work compares it with the value it was planned with,
+     * so it is dropped once the state it was planned for has been replaced.
+     * @return the restore count
+     */
+    int getEpoch() {
+        return epoch;
+    }
+
+    /**
+     * Gets the number of turns that have started since the first one, including skipped turns.
+     * @return the number of turns played so far
+     */
+    public int getTurnCount() {
+        return turnCount;
+    }
+
+    /**
+     * Checks if a player has already emptied their hand.
+     * @return true if the game is over
+     */
+    public boolean isOver() {
+        return winner != null;
+    }
+
+    /**
+     * Gets the winner of the game.
+     * @return The winning player, or null while the game is in progress
+     */
+    public Player getWinner() {
+        return winner;
+    }
 }
\ No newline at end of file
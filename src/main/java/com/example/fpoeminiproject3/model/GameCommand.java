@@ -0,0 +1,13 @@
+package com.example.fpoeminiproject3.model;
+
+/**
+ * A change to a game that is run on the game's loop.
+ */
+@FunctionalInterface
+public interface GameCommand {
+    /**
+     * Applies the change.
+     * @throws GameException if the game rejects the change
+     */
+    void execute() throws GameException;
+}
@@ -0,0 +1,92 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the commands of one game one at a time and in submission order, so the game has a single writer.
+ * Commands can be submitted from any thread; they are drained by a thread borrowed from a backing executor,
+ * which can be shared by many games since each loop only holds one of its threads while it has work.
+ */
+public final class GameLoop implements Executor {
+    private static final ExecutorService SHARED_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "uno-game-loop");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Executor backing;
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private volatile Thread owner;
+
+    /**
+     * Creates a loop on the shared pool of game threads.
+     */
+    public GameLoop() {
+        this(SHARED_EXECUTOR);
+    }
+
+    /**
+     * Creates a loop that borrows its threads from the given executor.
+     * @param backing the executor that runs the loop
+     */
+    public GameLoop(Executor backing) {
+        this.backing = backing;
+    }
+
+    /**
+     * Queues a command to run after the ones already submitted.
+     * @param command the command to run
+     */
+    @Override
+    public void execute(Runnable command) {
+        commands.add(command);
+        startDraining();
+    }
+
+    /**
+     * Checks if the calling thread is the one currently running this loop's commands.
+     * @return true when called from a command of this loop
+     */
+    public boolean inLoop() {
+        return owner == Thread.currentThread();
+    }
+
+    /**
+     * Hands the queue to the backing executor unless it is already being drained.
+     */
+    private void startDraining() {
+        if (draining.compareAndSet(false, true)) {
+            backing.execute(this::drain);
+        }
+    }
+
+    /**
+     * Runs queued commands until the queue is empty.
+     * A command that throws is reported and does not stop the loop.
+     */
+    private void drain() {
+        owner = Thread.currentThread();
+        try {
+            Runnable command;
+            while ((command = commands.poll()) != null) {
+                try {
+                    command.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error in game command: " + e.getMessage());
+                }
+            }
+        } finally {
+            owner = null;
+            draining.set(false);
+            if (!commands.isEmpty()) {
+                startDraining();
+            }
+        }
+    }
+}
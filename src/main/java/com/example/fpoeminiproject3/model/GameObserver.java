@@ -11,4 +11,13 @@ public interface GameObserver {
     void onUnoCalled(Player player);
     void onGameOver(Player winner);
     void onColorSelected(Player player, CardColor color);
+
+    /**
+     * Called when the game jumps to a restored state, before the restored turn starts.
+     * @param player the player whose turn it is in the restored state
+     * @param topCard the top card of the restored discard pile
+     * @param color the active color of the restored state
+     */
+    default void onGameRestored(Player player, Card topCard, CardColor color) {
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.List;
+
+/**
+ * An immutable snapshot of what a game shows to the human player.
+ * Snapshots are published by the game's loop, so other threads can read them without seeing a move half applied.
+ * @param turnCount the number of turns started so far
+ * @param currentPlayer the player whose turn it is
+ * @param topCard the top card of the discard pile
+ * @param currentColor the active color
+ * @param humanCards the cards of the human player, sorted by kind
+ * @param machineCardCount the number of cards of the machine player
+ * @param drawPileSize the number of cards left in the draw pile
+ * @param playableKinds the mask of card kinds that can be played on the top card
+ * @param winner the winning player, or null while the game is running
+ */
+public record GameState(int turnCount, Player currentPlayer, Card topCard, CardColor currentColor,
+                        List<Card> humanCards, int machineCardCount, int drawPileSize, long playableKinds,
+                        Player winner) {
+
+    /**
+     * Checks if a card can be played by the human player in this state.
+     * @param card the card to check
+     * @return true if it is the human's turn and the card can be played on the top card
+     */
+    public boolean isPlayableByHuman(Card card) {
+        return winner == null && currentPlayer instanceof HumanPlayer && (playableKinds & (1L << card.getId())) != 0;
+    }
+
+    /**
+     * Writes the legal moves of the human player in this state into a caller-supplied buffer, without allocating,
+     * as {@link Game#legalMoves(Player, int[])} does on the game's loop.
+     * @param moves the buffer to fill, of at least {@link Move#MAX_MOVES} entries
+     * @return the number of moves written, 0 if it isn't the human's turn or the game is over
+     */
+    public int legalMoves(int[] moves) {
+        if (winner != null || !(currentPlayer instanceof HumanPlayer)) {
+            return 0;
+        }
+        long held = 0;
+        for (int i = 0; i < humanCards.size(); i++) {
+            held |= 1L << humanCards.get(i).getId();
+        }
+        int count = Move.plays(held & playableKinds, moves);
+        moves[count] = Move.DRAW;
+        return count + 1;
+    }
+}
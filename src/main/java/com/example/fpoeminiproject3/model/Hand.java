@@ -0,0 +1,244 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the cards held by a player as a count per card kind.
+ * Besides the counts, it keeps a bitmask of the kinds present and the number of cards of each color,
+ * so adding, removing and asking which colors, types or kinds are held all take constant time.
+ */
+public class Hand {
+    private static final CardColor[] COLORS = CardColor.values();
+    private static final long[] COLOR_KINDS = new long[COLORS.length];
+    private static final long[] TYPE_KINDS = new long[CardType.values().length];
+
+    static {
+        for (int id = 0; id < Card.KIND_COUNT; id++) {
+            Card card = Card.fromId(id);
+            COLOR_KINDS[card.getColor().ordinal()] |= 1L << id;
+            TYPE_KINDS[card.getType().ordinal()] |= 1L << id;
+        }
+    }
+
+    private final byte[] counts = new byte[Card.KIND_COUNT];
+    private final int[] colorCounts = new int[COLORS.length];
+    private long kinds;
+    private int size;
+    private List<Card> cards = List.of();
+    private boolean changed;
+
+    /**
+     * Gets the bitmask of all card kinds of a color.
+     * @param color the color
+     * @return a mask with bit id set for every card kind of that color
+     */
+    public static long kindsOfColor(CardColor color) {
+        return COLOR_KINDS[color.ordinal()];
+    }
+
+    /**
+     * Gets the bitmask of all card kinds of a type.
+     * @param type the type
+     * @return a mask with bit id set for every card kind of that type
+     */
+    public static long kindsOfType(CardType type) {
+        return TYPE_KINDS[type.ordinal()];
+    }
+
+    /**
+     * Adds a card to the hand.
+     * @param id the kind id of the card
+     */
+    public void add(int id) {
+        counts[id]++;
+        colorCounts[Card.fromId(id).getColor().ordinal()]++;
+        kinds |= 1L << id;
+        size++;
+        changed = true;
+    }
+
+    /**
+     * Removes one card of a kind from the hand.
+     * @param id the kind id of the card
+     * @return true if the hand held a card of that kind
+     */
+    public boolean remove(int id) {
+        if (counts[id] == 0) {
+            return false;
+        }
+        if (--counts[id] == 0) {
+            kinds &= ~(1L << id);
+        }
+        colorCounts[Card.fromId(id).getColor().ordinal()]--;
+        size--;
+        changed = true;
+        return true;
+    }
+
+    /**
+     * Writes the kind id of every card, sorted by kind.
+     * @param buffer the array to write to
+     * @param offset the index of the first card
+     * @return the index after the last card written
+     */
+    public int writeTo(byte[] buffer, int offset) {
+        for (long mask = kinds; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            for (int i = 0; i < counts[id]; i++) {
+                buffer[offset++] = (byte) id;
+            }
+        }
+        return offset;
+    }
+
+    /**
+     * Replaces the cards of the hand with kind ids read from an array.
+     * @param buffer the array to read from
+     * @param offset the index of the first card
+     * @param count the number of cards to read
+     * @return the index after the last card read
+     */
+    public int readFrom(byte[] buffer, int offset, int count) {
+        clear();
+        for (int i = 0; i < count; i++) {
+            add(buffer[offset++]);
+        }
+        return offset;
+    }
+
+    /**
+     * Removes all cards from the hand.
+     */
+    public void clear() {
+        Arrays.fill(counts, (byte) 0);
+        Arrays.fill(colorCounts, 0);
+        kinds = 0;
+        size = 0;
+        changed = true;
+    }
+
+    /**
+     * Gets how many cards of a kind the hand holds.
+     * @param id the kind id of the card
+     * @return the number of cards of that kind
+     */
+    public int count(int id) {
+        return counts[id];
+    }
+
+    /**
+     * Gets the number of cards in the hand.
+     * @return the hand size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the bitmask of the card kinds in the hand.
+     * @return a mask with bit id set for every kind held at least once
+     */
+    public long kindMask() {
+        return kinds;
+    }
+
+    /**
+     * Gets the bitmask of the card kinds of a color in the hand.
+     * @param color the color
+     * @return the held kinds of that color
+     */
+    public long colorMask(CardColor color) {
+        return kinds & COLOR_KINDS[color.ordinal()];
+    }
+
+    /**
+     * Gets the bitmask of the card kinds of a type in the hand.
+     * @param type the type
+     * @return the held kinds of that type
+     */
+    public long typeMask(CardType type) {
+        return kinds & TYPE_KINDS[type.ordinal()];
+    }
+
+    /**
+     * Gets the number of cards of a color in the hand.
+     * @param color the color
+     * @return the number of cards of that color
+     */
+    public int colorCount(CardColor color) {
+        return colorCounts[color.ordinal()];
+    }
+
+    /**
+     * Gets the most frequent color in the hand, preferring the first color in declaration order on ties.
+     * @return the most frequent color, or null if the hand only has wild cards
+     */
+    public CardColor mostFrequentColor() {
+        CardColor best = null;
+        int bestCount = 0;
+        for (int i = 0; i < COLORS.length - 1; i++) {
+            if (colorCounts[i] > bestCount) {
+                best = COLORS[i];
+                bestCount = colorCounts[i];
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Counts the cards whose kinds are in a mask.
+     * @param mask the card kinds to count
+     * @return the number of held cards of those kinds
+     */
+    public int countOf(long mask) {
+        mask &= kinds;
+        int total = 0;
+        while (mask != 0) {
+            total += counts[Long.numberOfTrailingZeros(mask)];
+            mask &= mask - 1;
+        }
+        return total;
+    }
+
+    /**
+     * Finds the kind of the n-th card, in kind order, among the cards whose kinds are in a mask.
+     * Picking a uniform n in [0, countOf(mask)) picks a uniformly random matching card.
+     * @param mask the card kinds to consider
+     * @param n the index of the card among the matching cards
+     * @return the kind id of that card, or -1 if there are not enough matching cards
+     */
+    public int kindAt(long mask, int n) {
+        mask &= kinds;
+        while (mask != 0) {
+            int id = Long.numberOfTrailingZeros(mask);
+            n -= counts[id];
+            if (n < 0) {
+                return id;
+            }
+            mask &= mask - 1;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the cards in the hand ordered by kind.
+     * The list is rebuilt only when the hand changed since the last call.
+     * @return an unmodifiable list of the cards in the hand
+     */
+    public List<Card> toList() {
+        if (changed) {
+            Card[] list = new Card[size];
+            int index = 0;
+            for (long mask = kinds; mask != 0; mask &= mask - 1) {
+                int id = Long.numberOfTrailingZeros(mask);
+                for (int i = 0; i < counts[id]; i++) {
+                    list[index++] = Card.fromId(id);
+                }
+            }
+            cards = List.of(list);
+            changed = false;
+        }
+        return cards;
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs delayed tasks from a wheel of buckets turned by a single daemon thread.
+ * Scheduling and cancelling a timeout take constant time, whatever the number of pending timeouts, so one timer
+ * can serve the deadlines of every table. Deadlines are rounded up to the next tick, and tasks run on the
+ * timer's thread, so they must be short: they usually hand their work to a game loop or to the FX thread.
+ */
+public final class HashedWheelTimer {
+    private static final HashedWheelTimer SHARED = new HashedWheelTimer(10, 512);
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger();
+    private final long startNanos = System.nanoTime();
+    private volatile Thread worker;
+
+    /**
+     * Creates a timer. Its thread starts with the first scheduled timeout.
+     * @param tickMillis the length of a tick, which is the precision of the timer
+     * @param wheelSize the number of buckets, rounded up to a power of two
+     */
+    public HashedWheelTimer(long tickMillis, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * Gets the timer shared by all games, with 10 ms ticks.
+     * @return the shared timer
+     */
+    public static HashedWheelTimer shared() {
+        return SHARED;
+    }
+
+    /**
+     * Runs a task once a delay has passed.
+     * @param task the task to run on the timer's thread
+     * @param delayMillis the delay in milliseconds
+     * @return the timeout, which can be cancelled
+     * @throws IllegalStateException if the timer was stopped
+     */
+    public Timeout schedule(Runnable task, long delayMillis) {
+        start();
+        long deadline = System.nanoTime() - startNanos + TimeUnit.MILLISECONDS.toNanos(Math.max(0, delayMillis));
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * Stops the timer's thread. Pending timeouts never run.
+     */
+    public void stop() {
+        state.set(2);
+        Thread thread = worker;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    /**
+     * Starts the timer's thread if it is not running yet.
+     * @throws IllegalStateException if the timer was stopped
+     */
+    private void start() {
+        if (state.get() == 0 && state.compareAndSet(0, 1)) {
+            worker = new Thread(this::run, "uno-timer");
+            worker.setDaemon(true);
+            worker.start();
+        } else if (state.get() == 2) {
+            throw new IllegalStateException("The timer was stopped");
+        }
+    }
+
+    /**
+     * Turns the wheel one tick at a time until the timer is stopped.
+     */
+    private void run() {
+        long tick = (System.nanoTime() - startNanos) / tickNanos;
+        while (state.get() == 1) {
+            long deadline = (tick + 1) * tickNanos;
+            long sleep;
+            while ((sleep = deadline - (System.nanoTime() - startNanos)) > 0) {
+                LockSupport.parkNanos(this, sleep);
+                if (state.get() != 1) {
+                    return;
+                }
+            }
+            transferPending(tick);
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    /**
+     * Moves the timeouts scheduled since the last tick into their buckets.
+     * @param tick the current tick
+     */
+    private void transferPending(long tick) {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.state.get() != Timeout.WAITING) {
+                continue;
+            }
+            long ticks = Math.max(tick, (timeout.deadline + tickNanos - 1) / tickNanos);
+            timeout.remainingRounds = (ticks - tick) / wheel.length;
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    /**
+     * A task waiting in the wheel.
+     */
+    public static final class Timeout {
+        private static final int WAITING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(WAITING);
+        private long remainingRounds;
+        private Timeout next;
+        private Timeout previous;
+
+        /**
+         * Creates a timeout.
+         * @param task the task to run
+         * @param deadline the deadline in nanoseconds since the timer started
+         */
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Cancels the task if it has not run yet. It is removed from its bucket when the wheel next reaches it.
+         * @return true if the task was cancelled, false if it already ran or was cancelled before
+         */
+        public boolean cancel() {
+            return state.compareAndSet(WAITING, CANCELLED);
+        }
+
+        /**
+         * Checks if the timeout was cancelled.
+         * @return true if the task will never run because of a cancellation
+         */
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        /**
+         * Checks if the task ran.
+         * @return true once the task has been started
+         */
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        /**
+         * Runs the task unless it was cancelled.
+         */
+        private void expire() {
+            if (state.compareAndSet(WAITING, EXPIRED)) {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    System.err.println("Error in timer task: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * A doubly linked list of timeouts, only touched by the timer's thread.
+     */
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        /**
+         * Appends a timeout.
+         * @param timeout the timeout to add
+         */
+        void add(Timeout timeout) {
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.previous = tail;
+                tail = timeout;
+            }
+        }
+
+        /**
+         * Runs the timeouts due in the current round and drops the cancelled ones.
+         */
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state.get() != Timeout.WAITING) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        /**
+         * Unlinks a timeout.
+         * @param timeout the timeout to remove
+         */
+        private void remove(Timeout timeout) {
+            if (timeout.previous != null) {
+                timeout.previous.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.previous = timeout.previous;
+            } else {
+                tail = timeout.previous;
+            }
+            timeout.next = timeout.previous = null;
+        }
+    }
+}
@@ -54,6 +54,16 @@ public class HumanPlayer extends Player {
         return selectedCardColor;
     }
 
+    /**
+     * Takes the color selected for a wild card, so the next wild card needs a new selection.
+     * @return the selected CardColor, or null if no color is selected
+     */
+    CardColor takeSelectedCardColor() {
+        CardColor color = selectedCardColor;
+        selectedCardColor = null;
+        return color;
+    }
+
     /**
      * Marks that the player has called UNO.
      */
@@ -1,87 +1,211 @@
 package com.example.fpoeminiproject3.model;
 
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.Random;
+import com.example.fpoeminiproject3.jfr.AiDecisionEvent;
+import com.example.fpoeminiproject3.metrics.GameMetrics;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntSupplier;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a machine opponent in the game.
+ * Its decisions are delegated to a {@link Strategy}, which defaults to a {@link RandomStrategy}.
  */
 public class MachinePlayer extends Player {
-    private final Random random = new Random();
+    private static final ExecutorService THINKING_POOL = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "uno-machine-thinking");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final RandomGenerator pacing;
+    private final RandomStrategy fallback;
+    private Strategy strategy;
+    private CardColor chosenColor;
 
     public MachinePlayer(String name) {
+        this(name, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new MachinePlayer that makes its random choices with the given source.
+     * @param name the name of the machine player
+     * @param random the random source used to pick cards and colors
+     */
+    public MachinePlayer(String name, RandomGenerator random) {
+        this(name, random, new SplittableRandom());
+    }
+
+    /**
+     * Constructs a new MachinePlayer whose thinking times are drawn from their own source,
+     * so a paced game makes the same choices as a headless game created with the same random source.
+     * @param name the name of the machine player
+     * @param random the random source used to pick cards and colors
+     * @param pacing the random source used to pick thinking times
+     */
+    public MachinePlayer(String name, RandomGenerator random, RandomGenerator pacing) {
         super(name);
+        this.pacing = pacing;
+        this.fallback = new RandomStrategy(random);
+        this.strategy = fallback;
+    }
+
+    /**
+     * Sets the game instance this player belongs to and attaches the strategy to it.
+     * @param game the game instance
+     */
+    @Override
+    public void setGame(Game game) {
+        super.setGame(game);
+        strategy.attach(game, this);
+    }
+
+    /**
+     * Replaces the strategy that decides this player's moves.
+     * @param strategy the new strategy
+     */
+    public void setStrategy(Strategy strategy) {
+        if (game != null) {
+            this.strategy.detach(game, this);
+        }
+        this.strategy = strategy;
+        if (game != null) {
+            strategy.attach(game, this);
+        }
+    }
+
+    /**
+     * Gets the strategy that decides this player's moves.
+     * @return the current strategy
+     */
+    public Strategy getStrategy() {
+        return strategy;
     }
 
     /**
      * Executes the machine player's turn.
+     * A headless game decides and plays the move right away on the caller's thread.
+     * In a paced game the scheduler's thinking time is given to the strategy as its budget: the strategy reads
+     * the game on its loop, thinks on a separate thread so the loop stays free for the human's commands,
+     * and the move is submitted to the loop once the rest of that time has passed.
+     * The move is dropped if the game is restored in the meantime.
      */
     @Override
     public void playTurn() {
-        try {
-            if (game.getCurrentPlayer() != this) return;
-            Thread.sleep(3000 + random.nextInt(1000));
-            if (hasUno()) {
-                callUno();
-            }
-
-            Card topCard = game.getTopDiscardCard();
-            CardColor currentColor = game.getCurrentColor();
+        if (game.getCurrentPlayer() != this) return;
+        TurnScheduler scheduler = game.getScheduler();
+        long budget = scheduler != null ? scheduler.thinkingTime(pacing) : 0;
+        int handSize = getDeckSize();
+        IntSupplier decision = strategy.prepareMove(game, this, budget);
+        String strategyName = strategy.getClass().getSimpleName();
+        if (scheduler == null) {
+            playMove(decide(decision, strategyName, budget, handSize));
+            return;
+        }
 
-            List<Card> playableCards = cards.stream()
-                    .filter(card -> {
-                        if (topCard.getColor() == CardColor.WILD) {
-                            return card.getColor() == currentColor || card.getColor() == CardColor.WILD;
+        int epoch = game.getEpoch();
+        long start = System.currentTimeMillis();
+        CompletableFuture.supplyAsync(() -> decide(decision, strategyName, budget, handSize), THINKING_POOL)
+                .whenComplete((move, error) -> {
+                    if (error != null) {
+                        System.err.println("Machine decision failed: " + error.getMessage());
+                    }
+                    int chosen = error != null ? Move.DRAW : move;
+                    GameCommand command = () -> {
+                        if (game.getEpoch() == epoch) {
+                            playMove(chosen);
                         }
-                        return card.similarCard(topCard);
-                    })
-                    .toList();
-
-            if (!playableCards.isEmpty()) {
-                if (topCard.getColor() == CardColor.WILD) {
-                    List<Card> sameColorCards = playableCards.stream()
-                            .filter(card -> card.getColor() == currentColor)
-                            .toList();
-                    if (!sameColorCards.isEmpty()) {
-                        playableCards = sameColorCards;
+                    };
+                    long remaining = budget - (System.currentTimeMillis() - start);
+                    if (remaining > 0) {
+                        game.submitLater(command, remaining, e -> { });
+                    } else {
+                        game.submit(command, e -> { });
                     }
-                }
+                });
+    }
 
-                Card cardToPlay = playableCards.get(random.nextInt(playableCards.size()));
-                game.playCard(this, cardToPlay);
-            } else {
+    /**
+     * Runs a decision of the strategy and records how long it took.
+     * @param decision the decision prepared by the strategy
+     * @param strategyName the name of the strategy, for the recorded event
+     * @param budget the thinking time given to the strategy
+     * @param handSize the number of cards held when the decision was prepared
+     * @return the encoded move
+     */
+    private int decide(IntSupplier decision, String strategyName, long budget, int handSize) {
+        AiDecisionEvent event = new AiDecisionEvent();
+        event.begin();
+        long decisionStart = System.nanoTime();
+        int move = decision.getAsInt();
+        GameMetrics.AI_DECISION.recordSince(decisionStart);
+        event.end();
+        if (event.shouldCommit()) {
+            event.player = getName();
+            event.strategy = strategyName;
+            event.budget = budget;
+            event.move = Move.toString(move);
+            event.handSize = handSize;
+            event.commit();
+        }
+        return move;
+    }
+
+    /**
+     * Plays a move chosen by the strategy, or by a search playing this seat, calling UNO first when needed.
+     * A move the game rejects is reported and replaced by a draw, which is always legal, so the turn never hangs.
+     * Nothing is done if the turn ended or the game finished in the meantime.
+     * @param move the move to play
+     */
+    public void playMove(int move) {
+        if (game.getCurrentPlayer() != this || game.isOver()) return;
+        if (hasUno()) {
+            callUno();
+        }
+        try {
+            if (Move.isDraw(move)) {
                 game.drawCard(this);
+            } else {
+                Card card = Move.card(move);
+                chosenColor = card.getColor() == CardColor.WILD ? Move.color(move) : null;
+                game.playCard(this, card);
             }
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         } catch (GameException e) {
+            chosenColor = null;
+            System.err.println("Strategy " + strategy.getClass().getSimpleName() + " chose an illegal move "
+                    + Move.toString(move) + ": " + e.getMessage() + "; drawing instead");
+            drawInstead();
+        }
+    }
+
+    /**
+     * Draws a card in place of a rejected move.
+     * @throws IllegalStateException if the draw is rejected as well, which only happens if the game is broken
+     */
+    private void drawInstead() {
+        try {
+            game.drawCard(this);
+        } catch (GameException e) {
+            throw new IllegalStateException("The machine player can't draw: " + e.getMessage(), e);
         }
     }
 
     /**
      * Chooses a color when playing a WILD card.
+     * This is the color picked by the strategy along with the card, or the most frequent color when the card
+     * was played right after drawing it.
      * @return the selected CardColor (never WILD)
      */
     public CardColor chooseColor() {
-        Map<CardColor, Integer> colorCount = new HashMap<>();
-
-        for (Card card : cards) {
-            if (card.getColor() != CardColor.WILD) {
-                colorCount.put(card.getColor(), colorCount.getOrDefault(card.getColor(), 0) + 1);
-            }
+        CardColor color = chosenColor;
+        chosenColor = null;
+        if (color != null) {
+            return color;
         }
-
-        if (colorCount.isEmpty()) {
-            CardColor[] colors = CardColor.values();
-            return colors[random.nextInt(colors.length - 1)];
-        }
-
-        return colorCount.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .get()
-                .getKey();
+        return fallback.chooseColor(hand);
     }
 
     /**
@@ -92,4 +216,4 @@ public class MachinePlayer extends Player {
         this.calledUno = true;
         game.notifyUnoCalled(this);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,127 @@
+package com.example.fpoeminiproject3.model;
+
+/**
+ * Encodes the moves a player can make as plain ints, so move lists can live in primitive arrays.
+ * A play stores the card kind id in the low 6 bits and the resulting color in the next 3 bits;
+ * for wild cards that is the chosen color. Drawing a card is the single {@link #DRAW} value.
+ */
+public final class Move {
+    /**
+     * The move that draws a card from the deck.
+     */
+    public static final int DRAW = 1 << 9;
+
+    /**
+     * The largest number of distinct moves a player can have at once.
+     */
+    public static final int MAX_MOVES = Card.KIND_COUNT + 6 + 1;
+
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private Move() {
+    }
+
+    /**
+     * Encodes playing a card.
+     * @param cardId the kind id of the card to play
+     * @param color the color chosen for a wild card, or the card's own color
+     * @return the encoded move
+     */
+    public static int play(int cardId, CardColor color) {
+        return cardId | (color.ordinal() << 6);
+    }
+
+    /**
+     * Encodes playing a colored card.
+     * @param card the card to play
+     * @return the encoded move
+     */
+    public static int play(Card card) {
+        return play(card.getId(), card.getColor());
+    }
+
+    /**
+     * Checks if a move draws a card.
+     * @param move the encoded move
+     * @return true if the move is {@link #DRAW}
+     */
+    public static boolean isDraw(int move) {
+        return move == DRAW;
+    }
+
+    /**
+     * Gets the kind id of the card played by a move.
+     * @param move the encoded play
+     * @return the card kind id
+     */
+    public static int cardId(int move) {
+        return move & 0x3F;
+    }
+
+    /**
+     * Gets the card played by a move.
+     * @param move the encoded play
+     * @return the card
+     */
+    public static Card card(int move) {
+        return Card.fromId(cardId(move));
+    }
+
+    /**
+     * Gets the color that becomes active after a move.
+     * @param move the encoded play
+     * @return the card's color, or the chosen color for a wild card
+     */
+    public static CardColor color(int move) {
+        return COLORS[(move >> 6) & 0x7];
+    }
+
+    /**
+     * Fills a buffer with the moves of a player who only draws when stuck, as the search assumes:
+     * every playable card, wild cards once per color, or only {@link #DRAW} when nothing can be played.
+     * @param playable the playable card kinds held by the player, as a bitmask of kind ids
+     * @param moves the buffer to fill, of at least {@link #MAX_MOVES} entries
+     * @return the number of moves written
+     */
+    public static int legalMoves(long playable, int[] moves) {
+        if (playable == 0) {
+            moves[0] = DRAW;
+            return 1;
+        }
+        return plays(playable, moves);
+    }
+
+    /**
+     * Fills a buffer with the plays of some card kinds: one per colored card and wild cards once per color.
+     * @param playable the playable card kinds held by the player, as a bitmask of kind ids
+     * @param moves the buffer to fill, of at least {@link #MAX_MOVES} entries
+     * @return the number of moves written
+     */
+    public static int plays(long playable, int[] moves) {
+        int count = 0;
+        for (; playable != 0; playable &= playable - 1) {
+            int id = Long.numberOfTrailingZeros(playable);
+            if (id >= Card.WILD_ID) {
+                for (int color = 0; color < COLORS.length - 1; color++) {
+                    moves[count++] = play(id, COLORS[color]);
+                }
+            } else {
+                moves[count++] = play(Card.fromId(id));
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Formats a move for logs and debugging.
+     * @param move the encoded move
+     * @return a readable description of the move
+     */
+    public static String toString(int move) {
+        if (isDraw(move)) {
+            return "Draw";
+        }
+        Card card = card(move);
+        return card.getColor() == CardColor.WILD ? card + " -> " + color(move) : card.toString();
+    }
+}
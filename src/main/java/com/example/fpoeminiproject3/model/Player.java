@@ -1,6 +1,5 @@
 package com.example.fpoeminiproject3.model;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -8,9 +7,10 @@ import java.util.List;
  */
 public abstract class Player {
     protected String name;
-    protected List<Card> cards;
+    protected final Hand hand;
     protected Game game;
     protected boolean calledUno = false;
+    protected int cardsDrawn;
 
     /**
      * Constructs a new Player with the specified name.
@@ -18,7 +18,7 @@ public abstract class Player {
      */
     public Player(String name) {
         this.name = name;
-        this.cards = new ArrayList<>();
+        this.hand = new Hand();
     }
 
     /**
@@ -34,7 +34,7 @@ public abstract class Player {
      * @param card the card to add
      */
     public void addCard(Card card) {
-        cards.add(card);
+        hand.add(card.getId());
     }
 
     /**
@@ -42,7 +42,9 @@ public abstract class Player {
      * @param cards the list of cards to add
      */
     public void addCards(List<Card> cards) {
-        this.cards.addAll(cards);
+        for (Card card : cards) {
+            hand.add(card.getId());
+        }
     }
 
     /**
@@ -50,15 +52,23 @@ public abstract class Player {
      * @param card the card to remove
      */
     public void removeCard(Card card) {
-        cards.remove(card);
+        hand.remove(card.getId());
     }
 
     /**
      * Gets the player's current hand of cards.
-     * @return an unmodifiable list of cards in the player's hand
+     * @return an unmodifiable list of cards in the player's hand, ordered by card kind
      */
     public List<Card> getCards() {
-        return List.copyOf(cards);
+        return hand.toList();
+    }
+
+    /**
+     * Gets the count-based representation of the player's hand.
+     * @return the player's hand
+     */
+    public Hand getHand() {
+        return hand;
     }
 
     /**
@@ -66,7 +76,15 @@ public abstract class Player {
      * @return the size of the player's hand
      */
     public int getDeckSize() {
-        return cards.size();
+        return hand.size();
+    }
+
+    /**
+     * Gets the number of cards the player has drawn or been forced to draw since the initial deal.
+     * @return the number of cards drawn
+     */
+    public int getCardsDrawn() {
+        return cardsDrawn;
     }
 
     /**
@@ -74,7 +92,7 @@ public abstract class Player {
      * @return true if the player has one card, false otherwise
      */
     public boolean hasUno() {
-        return cards.size() == 1;
+        return hand.size() == 1;
     }
 
     /**
@@ -0,0 +1,62 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The original machine player behavior: plays a random playable card and names its most frequent color.
+ * When the top card is wild, cards of the chosen color are preferred over other wild cards.
+ */
+public class RandomStrategy implements Strategy {
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private final RandomGenerator random;
+
+    /**
+     * Constructs a RandomStrategy that makes its choices with the given source.
+     * @param random the random source used to pick cards and colors
+     */
+    public RandomStrategy(RandomGenerator random) {
+        this.random = random;
+    }
+
+    @Override
+    public int chooseMove(Game game, Player player, long budgetMillis) {
+        return chooseMove(player.getHand(), game.getTopDiscardCard(), game.getPlayableKinds());
+    }
+
+    /**
+     * Chooses a move from what a player can see, without access to the game.
+     * @param hand the hand of the player
+     * @param topCard the top card of the discard pile
+     * @param playableKinds the card kinds that can be played on the top card
+     * @return the encoded move
+     */
+    public int chooseMove(Hand hand, Card topCard, long playableKinds) {
+        long playable = hand.kindMask() & playableKinds;
+        if (topCard.getColor() == CardColor.WILD) {
+            long sameColor = playable & ~Hand.kindsOfColor(CardColor.WILD);
+            if (sameColor != 0) {
+                playable = sameColor;
+            }
+        }
+
+        if (playable == 0) {
+            return Move.DRAW;
+        }
+        Card card = Card.fromId(hand.kindAt(playable, random.nextInt(hand.countOf(playable))));
+        if (card.getColor() == CardColor.WILD) {
+            return Move.play(card.getId(), chooseColor(hand));
+        }
+        return Move.play(card);
+    }
+
+    /**
+     * Chooses the most frequent color of a hand, or a random one if the hand only has wild cards.
+     * @param hand the hand to inspect
+     * @return the selected CardColor (never WILD)
+     */
+    public CardColor chooseColor(Hand hand) {
+        CardColor color = hand.mostFrequentColor();
+        return color != null ? color : COLORS[random.nextInt(COLORS.length - 1)];
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Decides the moves of a player.
+ * Implementations receive the game and the player they decide for, and must return a legal {@link Move}.
+ * The interface and the default {@link RandomStrategy} live in the model because {@link MachinePlayer} plays with
+ * them; the stronger strategies are in the {@code ai} package, which depends on the model and not the other way round.
+ */
+public interface Strategy {
+
+    /**
+     * Chooses the next move of a player whose turn it is.
+     * @param game the game being played
+     * @param player the player to decide for
+     * @param budgetMillis the time the strategy may spend thinking, or 0 to use its own default
+     * @return the encoded move, which must be legal
+     */
+    int chooseMove(Game game, Player player, long budgetMillis);
+
+    /**
+     * Reads what the strategy needs from the game and returns the rest of the decision,
+     * so a paced game can think on another thread while its loop keeps serving other commands.
+     * This is called on the game's loop; the returned decision must not read the game, since it may run elsewhere.
+     * The default decides right away, which suits strategies that only take a moment.
+     * @param game the game being played
+     * @param player the player to decide for
+     * @param budgetMillis the time the strategy may spend thinking, or 0 to use its own default
+     * @return the decision, which yields the encoded move
+     */
+    default IntSupplier prepareMove(Game game, Player player, long budgetMillis) {
+        int move = chooseMove(game, player, budgetMillis);
+        return () -> move;
+    }
+
+    /**
+     * Called once when the strategy starts playing for a player, so it can observe the game.
+     * @param game the game being played
+     * @param player the player the strategy decides for
+     */
+    default void attach(Game game, Player player) {
+    }
+
+    /**
+     * Called once when the strategy stops playing for a player, so it can stop observing the game.
+     * @param game the game being played
+     * @param player the player the strategy decided for
+     */
+    default void detach(Game game, Player player) {
+    }
+
+    /**
+     * Called when the game jumps to a restored state, so the strategy can drop what it learned from earlier moves.
+     */
+    default void reset() {
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.fpoeminiproject3.model;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Times the delayed work of one game, such as machine turns and UNO timeouts, on a {@link HashedWheelTimer}
+ * shared by all games. Tasks that change the game hand their work to the game's loop through {@link Game#submitLater}.
+ * The delays are configurable: {@link #paced()} keeps the presentation delays of the UI and
+ * {@link #immediate()} runs everything as soon as possible for tests and simulations.
+ * Once the game ends the scheduler is cancelled and pending work is dropped.
+ */
+public class TurnScheduler {
+    private final HashedWheelTimer timer;
+    private final long turnDelayMillis;
+    private final long minThinkingMillis;
+    private final long maxThinkingMillis;
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a scheduler with the given delays on the shared timer.
+     * @param turnDelayMillis the pause before a machine turn starts
+     * @param minThinkingMillis the shortest time a machine turn takes
+     * @param maxThinkingMillis the longest time a machine turn takes
+     */
+    public TurnScheduler(long turnDelayMillis, long minThinkingMillis, long maxThinkingMillis) {
+        this(HashedWheelTimer.shared(), turnDelayMillis, minThinkingMillis, maxThinkingMillis);
+    }
+
+    /**
+     * Creates a scheduler with the given delays on a timer.
+     * @param timer the timer measuring the delays
+     * @param turnDelayMillis the pause before a machine turn starts
+     * @param minThinkingMillis the shortest time a machine turn takes
+     * @param maxThinkingMillis the longest time a machine turn takes
+     */
+    public TurnScheduler(HashedWheelTimer timer, long turnDelayMillis, long minThinkingMillis, long maxThinkingMillis) {
+        this.timer = timer;
+        this.turnDelayMillis = turnDelayMillis;
+        this.minThinkingMillis = minThinkingMillis;
+        this.maxThinkingMillis = Math.max(minThinkingMillis, maxThinkingMillis);
+    }
+
+    /**
+     * Creates a scheduler with the delays used by the UI: one second before a machine turn
+     * and three to four seconds of thinking.
+     * @return a paced scheduler
+     */
+    public static TurnScheduler paced() {
+        return new TurnScheduler(1000, 3000, 4000);
+    }
+
+    /**
+     * Creates a scheduler without delays.
+     * @return a zero-delay scheduler
+     */
+    public static TurnScheduler immediate() {
+        return new TurnScheduler(0, 0, 0);
+    }
+
+    /**
+     * Gets the pause before a machine turn starts.
+     * @return the delay in milliseconds
+     */
+    public long getTurnDelayMillis() {
+        return turnDelayMillis;
+    }
+
+    /**
+     * Picks how long a machine turn takes.
+     * @param random the random source of the machine player's thinking times
+     * @return the thinking time in milliseconds, 0 for a zero-delay scheduler
+     */
+    public long thinkingTime(RandomGenerator random) {
+        if (maxThinkingMillis == minThinkingMillis) {
+            return minThinkingMillis;
+        }
+        return minThinkingMillis + random.nextLong(maxThinkingMillis - minThinkingMillis + 1);
+    }
+
+    /**
+     * Runs a task on the timer's thread after a delay, unless the scheduler is cancelled by then.
+     * The task must be short, since it holds up the timer of every game.
+     * @param task the task to run
+     * @param delayMillis the delay in milliseconds
+     * @return the pending task, which can be cancelled, or null if the scheduler was already cancelled
+     */
+    public HashedWheelTimer.Timeout schedule(Runnable task, long delayMillis) {
+        if (cancelled) {
+            return null;
+        }
+        return timer.schedule(() -> {
+            if (!cancelled) {
+                task.run();
+            }
+        }, delayMillis);
+    }
+
+    /**
+     * Cancels the scheduler. Pending tasks are dropped when they come due.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    /**
+     * Checks if the scheduler was cancelled.
+     * @return true once the game ended or was abandoned
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
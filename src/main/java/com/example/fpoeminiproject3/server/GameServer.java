@@ -0,0 +1,429 @@
+package com.example.fpoeminiproject3.server;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hosts many concurrent games for clients connecting over TCP, using the {@link Protocol}.
+ * Each reactor thread owns a selector and the sessions registered with it, and plays their games headlessly
+ * on that thread, so a game is only ever touched by one thread and needs no locking.
+ * Sessions that send nothing for longer than the idle timeout are closed.
+ */
+public class GameServer implements Closeable {
+    private static final long SWEEP_INTERVAL_MILLIS = 250;
+    private static final int MAX_MACHINE_TURNS = 1000;
+
+    private final ServerSocketChannel serverChannel;
+    private final Reactor[] reactors;
+    private final long idleTimeoutMillis;
+    private final AtomicInteger sessions = new AtomicInteger();
+    private final AtomicInteger evictions = new AtomicInteger();
+    private int nextReactor;
+
+    /**
+     * Binds a server to a local port and starts its reactor threads.
+     * @param port the port to listen on, or 0 for any free port
+     * @param threads the number of reactor threads
+     * @param idleTimeoutMillis how long a session may stay silent before it is closed
+     * @param random the random source, split once per game
+     * @throws IOException if the port can't be bound
+     */
+    public GameServer(int port, int threads, long idleTimeoutMillis, SplittableRandom random) throws IOException {
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress("127.0.0.1", port));
+        serverChannel.configureBlocking(false);
+        this.reactors = new Reactor[Math.max(1, threads)];
+        for (int i = 0; i < reactors.length; i++) {
+            reactors[i] = new Reactor(random.split());
+        }
+        reactors[0].selector.wakeup();
+        serverChannel.register(reactors[0].selector, SelectionKey.OP_ACCEPT);
+        for (int i = 0; i < reactors.length; i++) {
+            Thread thread = new Thread(reactors[i], "uno-server-" + i);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Gets the port the server listens on.
+     * @return the local port
+     * @throws IOException if the address can't be read
+     */
+    public int getPort() throws IOException {
+        return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+    }
+
+    /**
+     * Gets the number of open sessions.
+     * @return the number of connected clients
+     */
+    public int getSessionCount() {
+        return sessions.get();
+    }
+
+    /**
+     * Gets the number of sessions closed for being idle.
+     * @return the number of evicted sessions
+     */
+    public int getEvictionCount() {
+        return evictions.get();
+    }
+
+    /**
+     * Stops accepting clients, closes all sessions and stops the reactor threads.
+     * @throws IOException if the server socket can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        for (Reactor reactor : reactors) {
+            reactor.running = false;
+            reactor.selector.wakeup();
+        }
+        serverChannel.close();
+    }
+
+    /**
+     * Accepts pending connections and hands them to the reactors in turn.
+     * @throws IOException if a connection can't be accepted
+     */
+    private void accept() throws IOException {
+        SocketChannel channel;
+        while ((channel = serverChannel.accept()) != null) {
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            Reactor reactor = reactors[nextReactor];
+            nextReactor = (nextReactor + 1) % reactors.length;
+            reactor.accepted.add(channel);
+            reactor.selector.wakeup();
+        }
+    }
+
+    /**
+     * A selector thread and the sessions it owns.
+     */
+    private final class Reactor implements Runnable {
+        private final Selector selector;
+        private final SplittableRandom random;
+        private final Queue<SocketChannel> accepted = new ConcurrentLinkedQueue<>();
+        private volatile boolean running = true;
+
+        /**
+         * Creates a reactor.
+         * @param random the random source of the reactor's games
+         * @throws IOException if the selector can't be opened
+         */
+        Reactor(SplittableRandom random) throws IOException {
+            this.selector = Selector.open();
+            this.random = random;
+        }
+
+        /**
+         * Serves the reactor's sessions until the server is closed.
+         */
+        @Override
+        public void run() {
+            long lastSweep = System.currentTimeMillis();
+            try {
+                while (running) {
+                    selector.select(SWEEP_INTERVAL_MILLIS);
+                    registerAccepted();
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        handle(key);
+                    }
+                    selector.selectedKeys().clear();
+                    long now = System.currentTimeMillis();
+                    if (now - lastSweep >= SWEEP_INTERVAL_MILLIS) {
+                        evictIdle(now);
+                        lastSweep = now;
+                    }
+                }
+            } catch (IOException e) {
+                System.err.println("Game server reactor failed: " + e.getMessage());
+            } finally {
+                for (SelectionKey key : selector.keys()) {
+                    if (key.attachment() instanceof Session session) {
+                        session.close();
+                    }
+                }
+                try {
+                    selector.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+
+        /**
+         * Registers the connections handed over by the acceptor.
+         * @throws IOException if a channel can't be registered
+         */
+        private void registerAccepted() throws IOException {
+            SocketChannel channel;
+            while ((channel = accepted.poll()) != null) {
+                Session session = new Session(channel, random.split());
+                session.key = channel.register(selector, SelectionKey.OP_READ, session);
+                sessions.incrementAndGet();
+            }
+        }
+
+        /**
+         * Handles a ready key. A session that fails is closed without affecting the other sessions of the reactor.
+         * @param key the selected key
+         */
+        private void handle(SelectionKey key) {
+            try {
+                if (!key.isValid()) {
+                    return;
+                }
+                if (key.isAcceptable()) {
+                    accept();
+                    return;
+                }
+                Session session = (Session) key.attachment();
+                if (key.isReadable()) {
+                    session.read();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    session.flush();
+                }
+            } catch (IOException e) {
+                if (key.attachment() instanceof Session session) {
+                    session.close();
+                }
+            } catch (RuntimeException e) {
+                System.err.println("Game session failed: " + e);
+                if (key.attachment() instanceof Session session) {
+                    session.close();
+                }
+            }
+        }
+
+        /**
+         * Closes the sessions that have been silent for longer than the idle timeout.
+         * @param now the current time in milliseconds
+         */
+        private void evictIdle(long now) {
+            for (SelectionKey key : selector.keys()) {
+                if (key.attachment() instanceof Session session && now - session.lastActivity > idleTimeoutMillis) {
+                    evictions.incrementAndGet();
+                    session.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * One client connection and its current game.
+     */
+    private final class Session {
+        private final SocketChannel channel;
+        private final SplittableRandom random;
+        private final ByteBuffer in = ByteBuffer.allocate(1024);
+        private final ByteBuffer out = ByteBuffer.allocate(8 * 1024);
+        private SelectionKey key;
+        private Game game;
+        private long lastActivity = System.currentTimeMillis();
+        private boolean closed;
+
+        /**
+         * Creates a session.
+         * @param channel the client's channel
+         * @param random the random source of the session's games
+         */
+        Session(SocketChannel channel, SplittableRandom random) {
+            this.channel = channel;
+            this.random = random;
+        }
+
+        /**
+         * Reads the available bytes and handles every complete frame.
+         * @throws IOException if the channel fails
+         */
+        void read() throws IOException {
+            int read = channel.read(in);
+            if (read < 0) {
+                close();
+                return;
+            }
+            lastActivity = System.currentTimeMillis();
+            in.flip();
+            while (!closed && in.remaining() > 0) {
+                int length = in.get(in.position()) & 0xFF;
+                if (length == 0) {
+                    reject();
+                    return;
+                }
+                if (in.remaining() < length + 1) {
+                    break;
+                }
+                int end = in.position() + 1 + length;
+                in.get();
+                handleFrame(in.get(), length - 1);
+                in.position(end);
+            }
+            in.compact();
+            if (!closed) {
+                flush();
+            }
+        }
+
+        /**
+         * Handles one frame.
+         * @param opcode the opcode of the frame
+         * @param payload the number of payload bytes, which start at the buffer's position
+         */
+        private void handleFrame(byte opcode, int payload) {
+            if (out.remaining() < Protocol.MAX_FRAME * 2) {
+                close();
+                return;
+            }
+            switch (opcode) {
+                case Protocol.NEW_GAME -> {
+                    game = new Game("Client", false, random.split());
+                    Protocol.writeState(out, game);
+                }
+                case Protocol.PLAY -> {
+                    if (payload < 2) {
+                        reject();
+                        return;
+                    }
+                    int cardId = in.get(in.position()) & 0xFF;
+                    int color = in.get(in.position() + 1) & 0xFF;
+                    if (cardId >= Card.KIND_COUNT || color >= CardColor.WILD.ordinal()) {
+                        reject();
+                        return;
+                    }
+                    move(Move.play(cardId, CardColor.values()[color]));
+                }
+                case Protocol.DRAW -> move(Move.DRAW);
+                case Protocol.UNO -> {
+                    if (game != null && !game.isOver()) {
+                        game.callUno(game.getHumanPlayer());
+                    }
+                }
+                case Protocol.BYE -> close();
+                default -> reject();
+            }
+        }
+
+        /**
+         * Applies a move of the client, then plays the machine's turns and answers with the new state.
+         * A client left with one card that didn't send {@link Protocol#UNO} before its move gets the penalty card.
+         * @param move the encoded move
+         */
+        private void move(int move) {
+            if (game == null || game.isOver()) {
+                Protocol.writeError(out, Protocol.NO_GAME);
+                return;
+            }
+            HumanPlayer human = game.getHumanPlayer();
+            try {
+                if (Move.isDraw(move)) {
+                    game.drawCard(human);
+                } else {
+                    Card card = Move.card(move);
+                    if (card.getColor() == CardColor.WILD) {
+                        human.selectColor(Move.color(move));
+                    }
+                    game.playCard(human, card);
+                }
+                if (!game.isOver()) {
+                    game.checkUnoPenalty(human);
+                }
+                playMachineTurns();
+            } catch (GameException e) {
+                Protocol.writeError(out, Protocol.ILLEGAL_MOVE);
+            } catch (IllegalStateException e) {
+                game = null;
+                Protocol.writeError(out, Protocol.STALLED);
+                return;
+            }
+            Protocol.writeState(out, game);
+        }
+
+        /**
+         * Plays the machine seat until it is the client's turn again or the game is over.
+         */
+        private void playMachineTurns() {
+            MachinePlayer machine = game.getMachinePlayer();
+            for (int turn = 0; turn < MAX_MACHINE_TURNS && !game.isOver()
+                    && game.getCurrentPlayer() == machine; turn++) {
+                machine.playTurn();
+            }
+        }
+
+        /**
+         * Answers a malformed frame and closes the session.
+         */
+        private void reject() {
+            Protocol.writeError(out, Protocol.BAD_FRAME);
+            try {
+                flush();
+            } catch (IOException ignored) {
+            }
+            close();
+        }
+
+        /**
+         * Writes as much of the pending output as the socket accepts, and waits for the socket to be writable
+         * again if some is left.
+         * @throws IOException if the channel fails
+         */
+        void flush() throws IOException {
+            if (closed) {
+                return;
+            }
+            out.flip();
+            channel.write(out);
+            boolean pending = out.hasRemaining();
+            out.compact();
+            key.interestOps(pending ? SelectionKey.OP_READ | SelectionKey.OP_WRITE : SelectionKey.OP_READ);
+        }
+
+        /**
+         * Closes the connection.
+         */
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            sessions.decrementAndGet();
+            if (key != null) {
+                key.cancel();
+            }
+            try {
+                channel.close();
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Runs a server until the process is stopped.
+     * @param args optional port, number of reactor threads and idle timeout in seconds
+     * @throws IOException if the port can't be bound
+     * @throws InterruptedException if the main thread is interrupted while the server runs
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7777;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        long idleSeconds = args.length > 2 ? Long.parseLong(args[2]) : 60;
+        GameServer server = new GameServer(port, threads, idleSeconds * 1000, new SplittableRandom());
+        System.out.printf("UNO server listening on 127.0.0.1:%d with %d reactors%n", server.getPort(), threads);
+        Thread.currentThread().join();
+    }
+}
@@ -0,0 +1,290 @@
+package com.example.fpoeminiproject3.server;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.SplittableRandom;
+
+/**
+ * Drives a {@link GameServer} with many bot clients from one selector thread and measures the turn latency,
+ * from sending a move to receiving the resulting state. The bots play the human seat with the
+ * {@link RandomStrategy} of the machine player, using only what the state frames show them.
+ */
+public class LoadGenerator implements Closeable {
+    private static final int BUCKET_MICROS = 10;
+    private static final int BUCKETS = 100_000;
+
+    private final Selector selector;
+    private final Bot[] bots;
+    private final int[] latencies = new int[BUCKETS + 1];
+    private long turns;
+    private long games;
+    private long errors;
+    private long maxLatencyNanos;
+
+    /**
+     * Connects the bots to a server.
+     * @param host the server's host
+     * @param port the server's port
+     * @param sessions the number of bots
+     * @param random the random source, split once per bot
+     * @throws IOException if a bot can't connect
+     */
+    public LoadGenerator(String host, int port, int sessions, SplittableRandom random) throws IOException {
+        this.selector = Selector.open();
+        this.bots = new Bot[sessions];
+        InetSocketAddress address = new InetSocketAddress(host, port);
+        for (int i = 0; i < sessions; i++) {
+            SocketChannel channel = SocketChannel.open(address);
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            bots[i] = new Bot(channel, random.split());
+            bots[i].key = channel.register(selector, SelectionKey.OP_READ, bots[i]);
+        }
+    }
+
+    /**
+     * Plays games with every bot for a while.
+     * @param durationMillis how long to play
+     * @throws IOException if a connection fails
+     */
+    public void run(long durationMillis) throws IOException {
+        for (Bot bot : bots) {
+            bot.send(Protocol.NEW_GAME);
+        }
+        long end = System.currentTimeMillis() + durationMillis;
+        long now;
+        while ((now = System.currentTimeMillis()) < end) {
+            selector.select(end - now);
+            for (SelectionKey key : selector.selectedKeys()) {
+                if (key.isValid() && key.isReadable()) {
+                    ((Bot) key.attachment()).read();
+                }
+            }
+            selector.selectedKeys().clear();
+        }
+    }
+
+    /**
+     * Gets the number of finished games.
+     * @return the number of games the bots completed
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of answered moves.
+     * @return the number of turns the bots played
+     */
+    public long getTurns() {
+        return turns;
+    }
+
+    /**
+     * Gets the number of error frames received.
+     * @return the number of errors
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Gets a percentile of the turn latency.
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in microseconds, rounded up to the histogram's resolution
+     */
+    public long latencyMicros(double percentile) {
+        long total = 0;
+        for (int count : latencies) {
+            total += count;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100);
+        long seen = 0;
+        for (int i = 0; i < latencies.length; i++) {
+            seen += latencies[i];
+            if (seen >= rank && seen > 0) {
+                return (long) (i + 1) * BUCKET_MICROS;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Gets the longest turn latency.
+     * @return the latency in microseconds
+     */
+    public long maxLatencyMicros() {
+        return maxLatencyNanos / 1000;
+    }
+
+    /**
+     * Disconnects the bots.
+     * @throws IOException if the selector can't be closed
+     */
+    @Override
+    public void close() throws IOException {
+        for (Bot bot : bots) {
+            bot.channel.close();
+        }
+        selector.close();
+    }
+
+    /**
+     * Records the latency of one turn.
+     * @param nanos the latency in nanoseconds
+     */
+    private void record(long nanos) {
+        latencies[(int) Math.min(BUCKETS, nanos / 1000 / BUCKET_MICROS)]++;
+        maxLatencyNanos = Math.max(maxLatencyNanos, nanos);
+        turns++;
+    }
+
+    /**
+     * One client connection playing the human seat.
+     */
+    private final class Bot {
+        private final SocketChannel channel;
+        private final RandomStrategy strategy;
+        private final Hand hand = new Hand();
+        private final ByteBuffer in = ByteBuffer.allocate(1024);
+        private final ByteBuffer out = ByteBuffer.allocate(64);
+        private SelectionKey key;
+        private long sentAt;
+
+        /**
+         * Creates a bot.
+         * @param channel the connection to the server
+         * @param random the random source of the bot's decisions
+         */
+        Bot(SocketChannel channel, SplittableRandom random) {
+            this.channel = channel;
+            this.strategy = new RandomStrategy(random);
+        }
+
+        /**
+         * Reads the available bytes and answers every complete frame.
+         * @throws IOException if the connection fails
+         */
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                key.cancel();
+                return;
+            }
+            in.flip();
+            while (in.remaining() > 0 && in.remaining() >= (in.get(in.position()) & 0xFF) + 1) {
+                int end = in.position() + 1 + (in.get() & 0xFF);
+                byte opcode = in.get();
+                if (opcode == Protocol.STATE) {
+                    onState();
+                } else if (opcode == Protocol.ERROR) {
+                    onError(in.get());
+                }
+                in.position(end);
+            }
+            in.compact();
+        }
+
+        /**
+         * Answers a state frame: starts a new game when the last one is over, or plays a turn.
+         * @throws IOException if the connection fails
+         */
+        private void onState() throws IOException {
+            if (sentAt != 0) {
+                record(System.nanoTime() - sentAt);
+                sentAt = 0;
+            }
+            int flags = in.get();
+            int topId = in.get() & 0xFF;
+            int color = in.get() & 0xFF;
+            in.position(in.position() + 2);
+            int handSize = in.get() & 0xFF;
+            hand.readFrom(in.array(), in.arrayOffset() + in.position(), handSize);
+            in.position(in.position() + handSize);
+
+            if ((flags & Protocol.OVER) != 0) {
+                games++;
+                send(Protocol.NEW_GAME);
+                return;
+            }
+            if ((flags & Protocol.YOUR_TURN) == 0) {
+                return;
+            }
+            Card topCard = Card.fromId(topId);
+            int move = strategy.chooseMove(hand, topCard, CardRules.playableKinds(topId, CardColor.values()[color]));
+            if (Move.isDraw(move)) {
+                send(Protocol.DRAW);
+                return;
+            }
+            out.clear();
+            if (hand.size() == 2) {
+                Protocol.writeFrame(out, Protocol.UNO);
+            }
+            Protocol.writePlay(out, Move.cardId(move), Move.color(move).ordinal());
+            write();
+        }
+
+        /**
+         * Answers an error frame. A rejected move is followed by a state, anything else restarts the game.
+         * @param code the error code
+         * @throws IOException if the connection fails
+         */
+        private void onError(byte code) throws IOException {
+            errors++;
+            if (code != Protocol.ILLEGAL_MOVE) {
+                sentAt = 0;
+                send(Protocol.NEW_GAME);
+            }
+        }
+
+        /**
+         * Sends a frame without payload.
+         * @param opcode the opcode
+         * @throws IOException if the connection fails
+         */
+        void send(byte opcode) throws IOException {
+            out.clear();
+            Protocol.writeFrame(out, opcode);
+            write();
+        }
+
+        /**
+         * Writes the pending frames and starts the latency clock.
+         * @throws IOException if the connection fails
+         */
+        private void write() throws IOException {
+            out.flip();
+            sentAt = System.nanoTime();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    /**
+     * Runs the bots against a server and prints the throughput and latency.
+     * @param args optional host, port, number of sessions and duration in seconds
+     * @throws IOException if the bots can't connect
+     */
+    public static void main(String[] args) throws IOException {
+        String host = args.length > 0 ? args[0] : "127.0.0.1";
+        int port = args.length > 1 ? Integer.parseInt(args[1]) : 7777;
+        int sessions = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+        int seconds = args.length > 3 ? Integer.parseInt(args[3]) : 30;
+        try (LoadGenerator generator = new LoadGenerator(host, port, sessions, new SplittableRandom())) {
+            generator.run(seconds * 1000L);
+            int cores = Runtime.getRuntime().availableProcessors();
+            System.out.printf("%d sessions, %d games, %.0f turns/s, %d errors%n",
+                    sessions, generator.getGames(), generator.getTurns() / (double) seconds, generator.getErrors());
+            System.out.printf("turn latency p50 %d us, p99 %d us, max %d us; %.0f sessions per core%n",
+                    generator.latencyMicros(50), generator.latencyMicros(99), generator.maxLatencyMicros(),
+                    sessions / (double) cores);
+        }
+    }
+}
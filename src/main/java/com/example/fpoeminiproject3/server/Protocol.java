@@ -0,0 +1,104 @@
+package com.example.fpoeminiproject3.server;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Hand;
+import com.example.fpoeminiproject3.model.HumanPlayer;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The binary protocol between game clients and the {@link GameServer}.
+ * Every message is a frame made of a length byte, which counts the bytes that follow it, an opcode and a payload.
+ * The client always plays the human seat; the server plays the machine seat before it answers.
+ * <ul>
+ *     <li>{@link #NEW_GAME}: no payload. Starts a new game, answered with a {@link #STATE}.</li>
+ *     <li>{@link #PLAY}: card kind id and color ordinal, which must not be {@code WILD}. Answered with a {@link #STATE}.</li>
+ *     <li>{@link #DRAW}: no payload. Answered with a {@link #STATE}.</li>
+ *     <li>{@link #UNO}: no payload. Calls UNO before the move that leaves one card; not answered.</li>
+ *     <li>{@link #BYE}: no payload. Closes the session.</li>
+ *     <li>{@link #STATE}: flags, top card, active color, draw pile size, machine card count,
+ *     hand size and the kind ids of the client's hand.</li>
+ *     <li>{@link #ERROR}: error code. A rejected move is followed by a {@link #STATE}.</li>
+ * </ul>
+ */
+public final class Protocol {
+    public static final byte NEW_GAME = 0x01;
+    public static final byte PLAY = 0x02;
+    public static final byte DRAW = 0x03;
+    public static final byte UNO = 0x04;
+    public static final byte BYE = 0x05;
+    public static final byte STATE = (byte) 0x81;
+    public static final byte ERROR = (byte) 0x82;
+
+    public static final int YOUR_TURN = 1;
+    public static final int OVER = 1 << 1;
+    public static final int YOU_WON = 1 << 2;
+    public static final int CALLED_UNO = 1 << 3;
+
+    public static final byte NO_GAME = 1;
+    public static final byte ILLEGAL_MOVE = 2;
+    public static final byte STALLED = 3;
+    public static final byte BAD_FRAME = 4;
+
+    public static final int MAX_FRAME = 255;
+
+    private Protocol() {
+    }
+
+    /**
+     * Writes a frame without payload.
+     * @param out the buffer to write to
+     * @param opcode the opcode
+     */
+    public static void writeFrame(ByteBuffer out, byte opcode) {
+        out.put((byte) 1).put(opcode);
+    }
+
+    /**
+     * Writes a play frame.
+     * @param out the buffer to write to
+     * @param cardId the kind id of the card
+     * @param color the ordinal of the chosen color, or of the card's color
+     */
+    public static void writePlay(ByteBuffer out, int cardId, int color) {
+        out.put((byte) 3).put(PLAY).put((byte) cardId).put((byte) color);
+    }
+
+    /**
+     * Writes an error frame.
+     * @param out the buffer to write to
+     * @param code the error code
+     */
+    public static void writeError(ByteBuffer out, byte code) {
+        out.put((byte) 2).put(ERROR).put(code);
+    }
+
+    /**
+     * Writes a state frame with what the human seat of a game can see.
+     * @param out the buffer to write to
+     * @param game the game
+     */
+    public static void writeState(ByteBuffer out, Game game) {
+        HumanPlayer human = game.getHumanPlayer();
+        int flags = (game.getCurrentPlayer() == human && !game.isOver() ? YOUR_TURN : 0)
+                | (game.isOver() ? OVER : 0)
+                | (game.getWinner() == human ? YOU_WON : 0)
+                | (human.calledUno() ? CALLED_UNO : 0);
+        Hand hand = human.getHand();
+        int handSize = hand.size();
+        out.put((byte) (7 + handSize))
+                .put(STATE)
+                .put((byte) flags)
+                .put((byte) game.getTopDiscardCard().getId())
+                .put((byte) game.getCurrentColor().ordinal())
+                .put((byte) game.getDrawPileSize())
+                .put((byte) game.getMachinePlayer().getDeckSize())
+                .put((byte) handSize);
+        for (long kinds = hand.kindMask(); kinds != 0; kinds &= kinds - 1) {
+            int id = Long.numberOfTrailingZeros(kinds);
+            for (int i = hand.count(id); i > 0; i--) {
+                out.put((byte) id);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.fpoeminiproject3.simulation;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.util.SplittableRandom;
+
+/**
+ * Runs complete games headlessly on the caller's thread, without JavaFX and without presentation delays.
+ * The machine seat plays its own turns with its strategy and the human seat is driven by another strategy.
+ */
+public class GameSimulator {
+    private static final int MAX_TURNS = 10_000;
+
+    private GameSimulator() {
+    }
+
+    /**
+     * Plays an unpaced game with the human seat using the original machine player behavior,
+     * seeded from the game's seed so the same seed always plays the same game.
+     * @param game the game to play, created with pacing disabled
+     * @return the winning player, or null if the game stalled because no card could be drawn
+     * @throws IllegalArgumentException if the game is paced
+     */
+    public static Player play(Game game) {
+        return play(game, new RandomStrategy(new SplittableRandom(Game.deriveSeed(game.getSeed(), 1))));
+    }
+
+    /**
+     * Plays an unpaced game until one of the players empties their hand.
+     * @param game the game to play, created with pacing disabled
+     * @param humanStrategy the strategy that plays the human seat
+     * @return the winning player, or null if the game stalled because no card could be drawn
+     * @throws IllegalArgumentException if the game is paced
+     */
+    public static Player play(Game game, Strategy humanStrategy) {
+        if (game.isPaced()) {
+            throw new IllegalArgumentException("Only unpaced games can be simulated");
+        }
+        HumanPlayer human = game.getHumanPlayer();
+        MachinePlayer machine = game.getMachinePlayer();
+        humanStrategy.attach(game, human);
+        try {
+            for (int turn = 0; turn < MAX_TURNS && !game.isOver(); turn++) {
+                Player current = game.getCurrentPlayer();
+                if (current == machine) {
+                    machine.playTurn();
+                } else {
+                    playHumanTurn(game, human, humanStrategy);
+                }
+            }
+        } catch (IllegalStateException | GameException e) {
+            return null;
+        } finally {
+            humanStrategy.detach(game, human);
+        }
+        return game.getWinner();
+    }
+
+    /**
+     * Plays the human seat with a strategy.
+     * @param game the game being simulated
+     * @param human the human player whose turn it is
+     * @param strategy the strategy providing the decisions
+     * @throws GameException if the selected move is rejected by the game
+     */
+    private static void playHumanTurn(Game game, HumanPlayer human, Strategy strategy) throws GameException {
+        if (human.hasUno()) {
+            game.callUno(human);
+        }
+        int move = strategy.chooseMove(game, human, 0);
+        if (Move.isDraw(move)) {
+            game.drawCard(human);
+            return;
+        }
+        Card card = Move.card(move);
+        if (card.getColor() == CardColor.WILD) {
+            human.selectColor(Move.color(move));
+        }
+        game.playCard(human, card);
+    }
+
+    /**
+     * Plays a number of headless games and prints the throughput.
+     * @param args optional number of games to play
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int humanWins = 0;
+        int stalled = 0;
+        SplittableRandom random = new SplittableRandom();
+        Strategy humanStrategy = new RandomStrategy(random.split());
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            Game game = new Game("Simulated", false, random.split());
+            Player winner = play(game, humanStrategy);
+            if (winner == null) {
+                stalled++;
+            } else if (winner == game.getHumanPlayer()) {
+                humanWins++;
+            }
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d games in %.2f s (%.0f games/s), human wins %d, stalled %d%n",
+                games, seconds, games / seconds, humanWins, stalled);
+    }
+}
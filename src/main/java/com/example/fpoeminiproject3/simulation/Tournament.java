@@ -0,0 +1,166 @@
+package com.example.fpoeminiproject3.simulation;
+
+import com.example.fpoeminiproject3.ai.Strategies;
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Strategy;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Plays a large number of headless games between two strategies in parallel on a work-stealing pool.
+ * The games are split recursively into tasks; every task plays its range of games with fresh decks
+ * and accumulates private statistics that are merged on join.
+ * Each game is seeded with {@link Game#deriveSeed(long, long)} from the root seed and its index,
+ * so a tournament gives the same results for the same root seed with any number of threads.
+ */
+public class Tournament {
+    private static final int MIN_GAMES_PER_TASK = 1_000;
+
+    private final int games;
+    private final long seed;
+    private final Seats seats;
+
+    /**
+     * Creates a tournament of a number of games where both seats play the original machine player behavior.
+     * @param games the number of games to play
+     * @param random the random source the root seed is drawn from
+     */
+    public Tournament(int games, SplittableRandom random) {
+        this(games, random.nextLong(), "random", "random", 0);
+    }
+
+    /**
+     * Creates a tournament of a number of games between two named strategies.
+     * @param games the number of games to play
+     * @param random the random source the root seed is drawn from
+     * @param humanStrategy the name of the strategy playing the human seat
+     * @param machineStrategy the name of the strategy playing the machine seat
+     * @param budgetMillis the thinking time per move of search strategies
+     * @throws IllegalArgumentException if a strategy name is unknown
+     */
+    public Tournament(int games, SplittableRandom random, String humanStrategy, String machineStrategy,
+                      long budgetMillis) {
+        this(games, random.nextLong(), humanStrategy, machineStrategy, budgetMillis);
+    }
+
+    /**
+     * Creates a tournament of a number of games between two named strategies.
+     * Search strategies run single-threaded, since the tournament already uses every core.
+     * @param games the number of games to play
+     * @param seed the root seed the seed of every game is derived from
+     * @param humanStrategy the name of the strategy playing the human seat
+     * @param machineStrategy the name of the strategy playing the machine seat
+     * @param budgetMillis the thinking time per move of search strategies
+     * @throws IllegalArgumentException if a strategy name is unknown
+     */
+    public Tournament(int games, long seed, String humanStrategy, String machineStrategy, long budgetMillis) {
+        this.games = games;
+        this.seed = seed;
+        this.seats = new Seats(humanStrategy, machineStrategy, budgetMillis);
+        Strategies.requireKnown(humanStrategy);
+        Strategies.requireKnown(machineStrategy);
+    }
+
+    /**
+     * Plays all games on a pool and merges their statistics.
+     * @param pool the pool to play on
+     * @return the results of the tournament
+     */
+    public TournamentStats run(ForkJoinPool pool) {
+        int tasksPerWorker = 8;
+        int threshold = Math.max(MIN_GAMES_PER_TASK, games / (pool.getParallelism() * tasksPerWorker));
+        TournamentStats stats = pool.invoke(new GamesTask(0, games, threshold, seed, seats));
+        stats.setSeed(seed);
+        return stats;
+    }
+
+    /**
+     * Gets the root seed of the tournament.
+     * @return the seed that reproduces the tournament
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Plays one game of the tournament, which is the same game whenever it is played.
+     * Both strategies get their own streams derived from the game's seed.
+     * @param gameSeed the seed of the game
+     * @param seats the strategies of both seats
+     * @param stats the statistics to record the game into
+     */
+    private static void playGame(long gameSeed, Seats seats, TournamentStats stats) {
+        Game game = new Game("Simulated", false, gameSeed);
+        game.getMachinePlayer().setStrategy(Strategies.create(seats.machine(),
+                new SplittableRandom(Game.deriveSeed(gameSeed, 0)), 1, seats.budgetMillis()));
+        Strategy human = Strategies.create(seats.human(),
+                new SplittableRandom(Game.deriveSeed(gameSeed, 1)), 1, seats.budgetMillis());
+        stats.record(game, GameSimulator.play(game, human));
+    }
+
+    /**
+     * The strategies of both seats and the thinking time of search strategies.
+     */
+    private record Seats(String human, String machine, long budgetMillis) {
+    }
+
+    /**
+     * Plays a range of games, forking half of it while it is larger than the threshold.
+     */
+    private static class GamesTask extends RecursiveTask<TournamentStats> {
+        private static final long serialVersionUID = 1L;
+
+        private final int first;
+        private final int games;
+        private final int threshold;
+        private final long seed;
+        private final Seats seats;
+
+        GamesTask(int first, int games, int threshold, long seed, Seats seats) {
+            this.first = first;
+            this.games = games;
+            this.threshold = threshold;
+            this.seed = seed;
+            this.seats = seats;
+        }
+
+        @Override
+        protected TournamentStats compute() {
+            if (games <= threshold) {
+                TournamentStats stats = new TournamentStats();
+                for (int i = first; i < first + games; i++) {
+                    playGame(Game.deriveSeed(seed, i), seats, stats);
+                }
+                return stats;
+            }
+            int half = games / 2;
+            GamesTask left = new GamesTask(first, half, threshold, seed, seats);
+            left.fork();
+            TournamentStats right = new GamesTask(first + half, games - half, threshold, seed, seats).compute();
+            return right.merge(left.join());
+        }
+    }
+
+    /**
+     * Runs a tournament and prints its results and throughput.
+     * @param args optional number of games, number of worker threads, human seat strategy, machine seat strategy,
+     *             thinking time per move in milliseconds for search strategies and root seed
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 10_000_000;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String human = args.length > 2 ? args[2] : "random";
+        String machine = args.length > 3 ? args[3] : "random";
+        long budget = args.length > 4 ? Long.parseLong(args[4]) : 10;
+        long seed = args.length > 5 ? Long.parseLong(args[5]) : new SplittableRandom().nextLong();
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        TournamentStats stats = new Tournament(games, seed, human, machine, budget).run(pool);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        pool.shutdown();
+        System.out.println(stats.report());
+        System.out.printf("%d threads, %.2f s, %.0f games/s%n", threads, seconds, games / seconds);
+    }
+}
@@ -0,0 +1,207 @@
+package com.example.fpoeminiproject3.simulation;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Player;
+
+/**
+ * Accumulates the results of many simulated games and reports them with 95% confidence intervals.
+ * Each worker fills its own instance and the instances are merged at the end, so no state is shared while playing.
+ */
+public class TournamentStats {
+    private static final double Z_95 = 1.96;
+
+    private long games;
+    private long humanWins;
+    private long machineWins;
+    private final Sample turns = new Sample();
+    private final Sample humanDrawn = new Sample();
+    private final Sample machineDrawn = new Sample();
+    private long seed;
+    private int longestTurns = -1;
+    private long longestSeed;
+
+    /**
+     * Records the outcome of a finished game.
+     * @param game the simulated game
+     * @param winner the winning player, or null if the game stalled
+     */
+    public void record(Game game, Player winner) {
+        games++;
+        if (winner == game.getHumanPlayer()) {
+            humanWins++;
+        } else if (winner == game.getMachinePlayer()) {
+            machineWins++;
+        }
+        turns.add(game.getTurnCount());
+        humanDrawn.add(game.getHumanPlayer().getCardsDrawn());
+        machineDrawn.add(game.getMachinePlayer().getCardsDrawn());
+        recordLongest(game.getTurnCount(), game.getSeed());
+    }
+
+    /**
+     * Keeps the seed of the longest game, preferring the smallest seed among equally long games
+     * so the result doesn't depend on the order games are merged in.
+     * @param turns the length of a game
+     * @param gameSeed the seed of the game
+     */
+    private void recordLongest(int turns, long gameSeed) {
+        if (turns > longestTurns || turns == longestTurns && gameSeed < longestSeed) {
+            longestTurns = turns;
+            longestSeed = gameSeed;
+        }
+    }
+
+    /**
+     * Adds the results accumulated by another instance to this one.
+     * @param other the results to add
+     * @return this instance
+     */
+    public TournamentStats merge(TournamentStats other) {
+        games += other.games;
+        humanWins += other.humanWins;
+        machineWins += other.machineWins;
+        turns.merge(other.turns);
+        humanDrawn.merge(other.humanDrawn);
+        machineDrawn.merge(other.machineDrawn);
+        if (other.longestTurns >= 0) {
+            recordLongest(other.longestTurns, other.longestSeed);
+        }
+        return this;
+    }
+
+    /**
+     * Sets the root seed of the tournament the results come from.
+     * @param seed the root seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Gets the root seed of the tournament the results come from.
+     * @return the root seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the seed of the longest game, which replays it with {@link Game#Game(String, boolean, long)}.
+     * @return the seed of the game with the most turns
+     */
+    public long getLongestGameSeed() {
+        return longestSeed;
+    }
+
+    /**
+     * Gets the length of the longest game.
+     * @return the number of turns of the longest game, or -1 if no game was recorded
+     */
+    public int getLongestGameTurns() {
+        return longestTurns;
+    }
+
+    /**
+     * Gets the number of games recorded.
+     * @return the number of games
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Gets the number of games won by the human seat.
+     * @return the human seat's wins
+     */
+    public long getHumanWins() {
+        return humanWins;
+    }
+
+    /**
+     * Gets the number of games won by the machine seat.
+     * @return the machine seat's wins
+     */
+    public long getMachineWins() {
+        return machineWins;
+    }
+
+    /**
+     * Gets the number of games that ended without a winner.
+     * @return the stalled games
+     */
+    public long getStalledGames() {
+        return games - humanWins - machineWins;
+    }
+
+    /**
+     * Gets the average number of turns per game.
+     * @return the mean game length in turns
+     */
+    public double getMeanTurns() {
+        return turns.mean();
+    }
+
+    /**
+     * Formats a summary of the results with 95% confidence intervals.
+     * @return the report
+     */
+    public String report() {
+        return String.format("seed: %d%n", seed)
+                + String.format("games: %d (stalled %d)%n", games, getStalledGames())
+                + String.format("human seat win rate:   %s%n", proportion(humanWins))
+                + String.format("machine seat win rate: %s%n", proportion(machineWins))
+                + String.format("turns per game:        %s%n", turns)
+                + String.format("human seat drawn:      %s%n", humanDrawn)
+                + String.format("machine seat drawn:    %s%n", machineDrawn)
+                + String.format("longest game:          %d turns (seed %d)", longestTurns, longestSeed);
+    }
+
+    /**
+     * Formats a proportion of the recorded games with its normal-approximation confidence interval.
+     * @param count the number of games with the outcome
+     * @return the formatted proportion
+     */
+    private String proportion(long count) {
+        if (games == 0) {
+            return "n/a";
+        }
+        double p = (double) count / games;
+        double margin = Z_95 * Math.sqrt(p * (1 - p) / games);
+        return String.format("%.4f ± %.4f", p, margin);
+    }
+
+    /**
+     * Running count, sum and sum of squares of a measurement.
+     */
+    private static class Sample {
+        private long count;
+        private double sum;
+        private double sumOfSquares;
+
+        void add(double value) {
+            count++;
+            sum += value;
+            sumOfSquares += value * value;
+        }
+
+        void merge(Sample other) {
+            count += other.count;
+            sum += other.sum;
+            sumOfSquares += other.sumOfSquares;
+        }
+
+        double mean() {
+            return count == 0 ? 0 : sum / count;
+        }
+
+        @Override
+        public String toString() {
+            if (count < 2) {
+                return String.format("%.2f", mean());
+            }
+            double mean = mean();
+            double variance = Math.max(0, (sumOfSquares - count * mean * mean) / (count - 1));
+            return String.format("%.2f ± %.2f", mean, Z_95 * Math.sqrt(variance / count));
+        }
+    }
+}
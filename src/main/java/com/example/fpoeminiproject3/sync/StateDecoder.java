@@ -0,0 +1,155 @@
+package com.example.fpoeminiproject3.sync;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.nio.ByteBuffer;
+
+import static com.example.fpoeminiproject3.sync.StateEncoder.*;
+
+/**
+ * Rebuilds the view of one seat from the messages of a {@link StateEncoder}, for a client that has no
+ * {@link Game} of its own. Every message produces a {@link GameState} that can be rendered like a local one.
+ * The remote players are represented by local stand-ins, which only serve to tell the seats apart.
+ */
+public class StateDecoder {
+    private static final CardColor[] COLORS = CardColor.values();
+
+    private final Player self;
+    private final Player other;
+    private final Hand hand = new Hand();
+    private boolean synced;
+    private int turnCount;
+    private int current;
+    private int top;
+    private int color;
+    private int opponentCount;
+    private int drawPileSize;
+    private int winner;
+
+    /**
+     * Creates a decoder.
+     * @param self the player standing for the decoded seat
+     * @param other the player standing for the other seat
+     */
+    public StateDecoder(Player self, Player other) {
+        this.self = self;
+        this.other = other;
+    }
+
+    /**
+     * Applies a message and returns the resulting view.
+     * @param in the buffer positioned at the start of the message; it is left after the message
+     * @return the view after the message
+     * @throws IllegalArgumentException if the message is malformed or a delta arrives before the first snapshot
+     */
+    public GameState apply(ByteBuffer in) {
+        int ops = in.get() & 0xFF;
+        for (int i = 0; i < ops; i++) {
+            byte op = in.get();
+            if (op != SNAPSHOT && !synced) {
+                throw new IllegalArgumentException("Delta received before the first snapshot");
+            }
+            switch (op) {
+                case SNAPSHOT -> readSnapshot(in);
+                case ADD -> {
+                    int id = kind(in.get());
+                    for (int n = in.get() & 0xFF; n > 0; n--) {
+                        hand.add(id);
+                    }
+                }
+                case REMOVE -> {
+                    int id = kind(in.get());
+                    for (int n = in.get() & 0xFF; n > 0; n--) {
+                        hand.remove(id);
+                    }
+                }
+                case TOP -> top = kind(in.get());
+                case COLOR -> color = color(in.get());
+                case TURN -> {
+                    turnCount = in.getChar();
+                    current = in.get() & 0xFF;
+                }
+                case OPPONENT -> opponentCount = in.get() & 0xFF;
+                case DRAW_PILE -> drawPileSize = in.get() & 0xFF;
+                case WINNER -> winner = in.get() & 0xFF;
+                default -> throw new IllegalArgumentException("Unknown operation " + op);
+            }
+        }
+        return getState();
+    }
+
+    /**
+     * Gets the view built from the messages applied so far.
+     * @return the current view
+     * @throws IllegalStateException if no snapshot was applied yet
+     */
+    public GameState getState() {
+        if (!synced) {
+            throw new IllegalStateException("No snapshot received yet");
+        }
+        CardColor activeColor = COLORS[color];
+        return new GameState(turnCount, playerOf(current), Card.fromId(top), activeColor, hand.toList(),
+                opponentCount, drawPileSize, CardRules.playableKinds(top, activeColor), playerOf(winner));
+    }
+
+    /**
+     * Reads a snapshot, replacing everything known so far.
+     * @param in the buffer positioned after the operation
+     */
+    private void readSnapshot(ByteBuffer in) {
+        turnCount = in.getChar();
+        current = in.get() & 0xFF;
+        top = kind(in.get());
+        color = color(in.get());
+        drawPileSize = in.get() & 0xFF;
+        opponentCount = in.get() & 0xFF;
+        winner = in.get() & 0xFF;
+        int size = in.get() & 0xFF;
+        hand.clear();
+        for (int i = 0; i < size; i++) {
+            hand.add(kind(in.get()));
+        }
+        synced = true;
+    }
+
+    /**
+     * Validates a card kind id read from a message.
+     * @param value the byte read
+     * @return the kind id
+     * @throws IllegalArgumentException if it is not a card kind
+     */
+    private static int kind(byte value) {
+        int id = value & 0xFF;
+        if (id >= Card.KIND_COUNT) {
+            throw new IllegalArgumentException("Unknown card kind " + id);
+        }
+        return id;
+    }
+
+    /**
+     * Validates an active color ordinal read from a message.
+     * @param value the byte read
+     * @return the color ordinal
+     * @throws IllegalArgumentException if it is not a color a card can be played on
+     */
+    private static int color(byte value) {
+        int ordinal = value & 0xFF;
+        if (ordinal >= CardColor.WILD.ordinal()) {
+            throw new IllegalArgumentException("Unknown color " + ordinal);
+        }
+        return ordinal;
+    }
+
+    /**
+     * Maps a seat relative to the decoded one to its stand-in player.
+     * @param seat the seat read from a message
+     * @return the stand-in, or null for nobody
+     */
+    private Player playerOf(int seat) {
+        return switch (seat) {
+            case SELF -> self;
+            case OTHER -> other;
+            default -> null;
+        };
+    }
+}
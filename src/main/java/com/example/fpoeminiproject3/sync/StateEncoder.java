@@ -0,0 +1,198 @@
+package com.example.fpoeminiproject3.sync;
+
+import com.example.fpoeminiproject3.model.*;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Encodes what one seat of a game can see as a full snapshot followed by small deltas.
+ * The encoder remembers what it last sent, so each message only carries the fields that changed since then:
+ * a turn change, a new top card or color, the other seat's card count and the cards added to or removed from
+ * the seat's own hand. The other seat's cards are never sent.
+ * Messages are read back by a {@link StateDecoder}. Encoding must happen on the game's loop, for example
+ * from a {@link GameObserver} callback, since it reads the game directly.
+ */
+public class StateEncoder {
+    static final byte SNAPSHOT = 0x01;
+    static final byte ADD = 0x02;
+    static final byte REMOVE = 0x03;
+    static final byte TOP = 0x04;
+    static final byte COLOR = 0x05;
+    static final byte TURN = 0x06;
+    static final byte OPPONENT = 0x07;
+    static final byte DRAW_PILE = 0x08;
+    static final byte WINNER = 0x09;
+
+    static final int SELF = 0;
+    static final int OTHER = 1;
+    static final int NOBODY = 0xFF;
+
+    /** A bound on the size of a message, large enough for a snapshot holding the whole deck. */
+    public static final int MAX_MESSAGE = 256;
+
+    private final Game game;
+    private final Player seat;
+    private final Hand sentHand = new Hand();
+    private final byte[] cards = new byte[CardDeck.SIZE];
+    private boolean synced;
+    private int turnCount;
+    private int current;
+    private int top;
+    private int color;
+    private int opponentCount;
+    private int drawPileSize;
+    private int winner;
+
+    /**
+     * Creates an encoder for one seat of a game.
+     * @param game the game to encode
+     * @param seat the player whose view is encoded
+     */
+    public StateEncoder(Game game, Player seat) {
+        this.game = game;
+        this.seat = seat;
+    }
+
+    /**
+     * Makes the next message a full snapshot, for a client that connects again or a game that was restored.
+     */
+    public void reset() {
+        synced = false;
+    }
+
+    /**
+     * Writes the changes since the last message, or a snapshot for the first one.
+     * A message is a count of operations followed by the operations; it has no operations if nothing changed.
+     * @param out the buffer to write to, with at least {@link #MAX_MESSAGE} bytes remaining
+     * @return the number of bytes written
+     */
+    public int encode(ByteBuffer out) {
+        int start = out.position();
+        int countAt = start;
+        out.put((byte) 0);
+        int ops;
+        if (!synced) {
+            writeSnapshot(out);
+            ops = 1;
+        } else {
+            ops = writeDeltas(out);
+        }
+        out.put(countAt, (byte) ops);
+        return out.position() - start;
+    }
+
+    /**
+     * Writes the whole view of the seat and remembers it.
+     * @param out the buffer to write to
+     */
+    private void writeSnapshot(ByteBuffer out) {
+        turnCount = game.getTurnCount();
+        current = seatOf(game.getCurrentPlayer());
+        top = game.getTopDiscardCard().getId();
+        color = game.getCurrentColor().ordinal();
+        opponentCount = game.getOpponent(seat).getDeckSize();
+        drawPileSize = game.getDrawPileSize();
+        winner = seatOf(game.getWinner());
+        Hand hand = seat.getHand();
+        out.put(SNAPSHOT)
+                .putChar((char) turnCount)
+                .put((byte) current)
+                .put((byte) top)
+                .put((byte) color)
+                .put((byte) drawPileSize)
+                .put((byte) opponentCount)
+                .put((byte) winner)
+                .put((byte) hand.size());
+        int size = hand.writeTo(cards, 0);
+        out.put(cards, 0, size);
+        sentHand.readFrom(cards, 0, size);
+        synced = true;
+    }
+
+    /**
+     * Writes an operation for every field that changed since the last message.
+     * @param out the buffer to write to
+     * @return the number of operations written
+     */
+    private int writeDeltas(ByteBuffer out) {
+        int ops = 0;
+        int nowTurn = game.getTurnCount();
+        int nowCurrent = seatOf(game.getCurrentPlayer());
+        if (nowTurn != turnCount || nowCurrent != current) {
+            turnCount = nowTurn;
+            current = nowCurrent;
+            out.put(TURN).putChar((char) turnCount).put((byte) current);
+            ops++;
+        }
+        int nowTop = game.getTopDiscardCard().getId();
+        if (nowTop != top) {
+            top = nowTop;
+            out.put(TOP).put((byte) top);
+            ops++;
+        }
+        int nowColor = game.getCurrentColor().ordinal();
+        if (nowColor != color) {
+            color = nowColor;
+            out.put(COLOR).put((byte) color);
+            ops++;
+        }
+        int nowOpponent = game.getOpponent(seat).getDeckSize();
+        if (nowOpponent != opponentCount) {
+            opponentCount = nowOpponent;
+            out.put(OPPONENT).put((byte) opponentCount);
+            ops++;
+        }
+        int nowDrawPile = game.getDrawPileSize();
+        if (nowDrawPile != drawPileSize) {
+            drawPileSize = nowDrawPile;
+            out.put(DRAW_PILE).put((byte) drawPileSize);
+            ops++;
+        }
+        int nowWinner = seatOf(game.getWinner());
+        if (nowWinner != winner) {
+            winner = nowWinner;
+            out.put(WINNER).put((byte) winner);
+            ops++;
+        }
+        return ops + writeHandDeltas(out);
+    }
+
+    /**
+     * Writes the cards added to and removed from the seat's hand, one operation per card kind.
+     * @param out the buffer to write to
+     * @return the number of operations written
+     */
+    private int writeHandDeltas(ByteBuffer out) {
+        Hand hand = seat.getHand();
+        int ops = 0;
+        for (long mask = hand.kindMask() | sentHand.kindMask(); mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            int difference = hand.count(id) - sentHand.count(id);
+            if (difference == 0) {
+                continue;
+            }
+            out.put(difference > 0 ? ADD : REMOVE).put((byte) id).put((byte) Math.abs(difference));
+            for (int i = 0; i < Math.abs(difference); i++) {
+                if (difference > 0) {
+                    sentHand.add(id);
+                } else {
+                    sentHand.remove(id);
+                }
+            }
+            ops++;
+        }
+        return ops;
+    }
+
+    /**
+     * Maps a player to a seat relative to the encoded one.
+     * @param player the player, or null
+     * @return {@link #SELF}, {@link #OTHER} or {@link #NOBODY}
+     */
+    private int seatOf(Player player) {
+        if (player == null) {
+            return NOBODY;
+        }
+        return player == seat ? SELF : OTHER;
+    }
+}
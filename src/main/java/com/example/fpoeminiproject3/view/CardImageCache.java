@@ -0,0 +1,123 @@
+package com.example.fpoeminiproject3.view;
+
+import com.example.fpoeminiproject3.model.Card;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Decodes every card image once per target size and shares it across the application.
+ * The 54 card faces, the card back and the deck image are decoded directly at the size they are drawn,
+ * so refreshing a hand does no PNG decoding nor resource I/O after the first time an image is shown.
+ * {@link #preload()} decodes all of them in the background ahead of time, so the game scene is built from a warm cache.
+ */
+public final class CardImageCache {
+    public static final double CARD_WIDTH = 80;
+    public static final double CARD_HEIGHT = 120;
+
+    private static final String BACK_PATH = "/com/example/fpoeminiproject3/images/card_uno.png";
+    private static final String DECK_PATH = "/com/example/fpoeminiproject3/images/deck_of_cards.png";
+    private static final Map<Key, Image> IMAGES = new ConcurrentHashMap<>();
+    private static final ExecutorService PRELOAD_POOL = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1), runnable -> {
+                Thread thread = new Thread(runnable, "uno-assets");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    /**
+     * Identifies an image decoded at a given size.
+     * @param path the resource path of the image
+     * @param width the decoded width
+     * @param height the decoded height
+     */
+    private record Key(String path, double width, double height) {
+    }
+
+    private CardImageCache() {
+    }
+
+    /**
+     * Gets the face of a card at the display size.
+     * @param card the card
+     * @return the decoded image
+     */
+    public static Image face(Card card) {
+        return get(card.getImageCardPath(), CARD_WIDTH, CARD_HEIGHT);
+    }
+
+    /**
+     * Gets the back of a card at the display size.
+     * @return the decoded image
+     */
+    public static Image back() {
+        return get(BACK_PATH, CARD_WIDTH, CARD_HEIGHT);
+    }
+
+    /**
+     * Gets the image of the draw pile at the display size.
+     * @return the decoded image
+     */
+    public static Image deck() {
+        return get(DECK_PATH, CARD_WIDTH, CARD_HEIGHT);
+    }
+
+    /**
+     * Decodes every card face, the card back and the deck image on background threads.
+     * @return a future completed once all images are in the cache
+     */
+    public static CompletableFuture<Void> preload() {
+        return preload(PRELOAD_POOL);
+    }
+
+    /**
+     * Decodes every card face, the card back and the deck image on an executor.
+     * Images already in the cache are not decoded again.
+     * @param executor the executor decoding the images
+     * @return a future completed once all images are in the cache
+     */
+    public static CompletableFuture<Void> preload(Executor executor) {
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[Card.KIND_COUNT + 2];
+        for (int id = 0; id < Card.KIND_COUNT; id++) {
+            Card card = Card.fromId(id);
+            tasks[id] = CompletableFuture.runAsync(() -> face(card), executor);
+        }
+        tasks[Card.KIND_COUNT] = CompletableFuture.runAsync(CardImageCache::back, executor);
+        tasks[Card.KIND_COUNT + 1] = CompletableFuture.runAsync(CardImageCache::deck, executor);
+        return CompletableFuture.allOf(tasks);
+    }
+
+    /**
+     * Gets an image resource decoded at a given size, decoding it on first use.
+     * @param path the resource path of the image
+     * @param width the width to decode to
+     * @param height the height to decode to
+     * @return the decoded image
+     */
+    public static Image get(String path, double width, double height) {
+        return IMAGES.computeIfAbsent(new Key(path, width, height), CardImageCache::decode);
+    }
+
+    /**
+     * Decodes an image resource at the size of a key.
+     * @param key the image to decode
+     * @return the decoded image
+     */
+    private static Image decode(Key key) {
+        try (InputStream stream = Objects.requireNonNull(CardImageCache.class.getResourceAsStream(key.path()),
+                "Missing image " + key.path())) {
+            return new Image(stream, key.width(), key.height(), false, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.fpoeminiproject3.view;
+
+import com.example.fpoeminiproject3.metrics.GameMetrics;
+import com.example.fpoeminiproject3.model.GameState;
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Gathers game events between two frames and renders only the latest snapshot once per frame.
+ * Events mark the regions of the view they affect as dirty from any thread without queuing work on the FX thread;
+ * on the next pulse the dirty regions are rendered together from the newest state, however many events arrived.
+ * The frame timer only runs while there is something to render: the first event after an idle pulse starts it,
+ * and it stops on the first pulse that finds nothing dirty, so an idle view requests no pulses.
+ */
+public final class FrameDispatcher {
+    public static final int CURRENT_PLAYER = 1;
+    public static final int DISCARD_PILE = 1 << 1;
+    public static final int HUMAN_HAND = 1 << 2;
+    public static final int MACHINE_HAND = 1 << 3;
+    public static final int UNO_BUTTON = 1 << 4;
+    public static final int ALL = CURRENT_PLAYER | DISCARD_PILE | HUMAN_HAND | MACHINE_HAND | UNO_BUTTON;
+
+    private final ObjIntConsumer<GameState> renderer;
+    private final AtomicReference<GameState> latest = new AtomicReference<>();
+    private final AtomicInteger dirty = new AtomicInteger();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean running;
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            if (!render()) {
+                stop();
+            }
+        }
+    };
+
+    /**
+     * Creates a dispatcher.
+     * @param renderer called on the FX thread with the latest state and the mask of dirty regions
+     */
+    public FrameDispatcher(ObjIntConsumer<GameState> renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Starts rendering on the frame pulses that follow new events. Must be called on the FX thread.
+     */
+    public void start() {
+        running = true;
+        timer.start();
+    }
+
+    /**
+     * Stops rendering on frame pulses. Must be called on the FX thread.
+     */
+    public void stop() {
+        running = false;
+        timer.stop();
+    }
+
+    /**
+     * Records a new state and the regions it changed. Can be called from any thread.
+     * @param state the state to render
+     * @param regions the mask of regions to render again
+     */
+    public void post(GameState state, int regions) {
+        latest.set(state);
+        int before = dirty.getAndAccumulate(regions, (current, added) -> current | added);
+        pending.incrementAndGet();
+        if (before == 0 && regions != 0 && running) {
+            Platform.runLater(this::wake);
+        }
+    }
+
+    /**
+     * Starts the frame timer again after it went idle, unless the dispatcher was stopped in the meantime.
+     */
+    private void wake() {
+        if (running) {
+            timer.start();
+        }
+    }
+
+    /**
+     * Renders the dirty regions right away, without waiting for the next pulse. Must be called on the FX thread.
+     */
+    public void flush() {
+        render();
+    }
+
+    /**
+     * Renders the dirty regions, if any.
+     * @return true if something was rendered, false if nothing was dirty
+     */
+    private boolean render() {
+        int regions = dirty.getAndSet(0);
+        if (regions == 0) {
+            return false;
+        }
+        GameMetrics.FX_BACKLOG.record(pending.getAndSet(0));
+        renderer.accept(latest.get(), regions);
+        return true;
+    }
+}
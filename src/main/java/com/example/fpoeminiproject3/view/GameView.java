@@ -2,32 +2,33 @@ package com.example.fpoeminiproject3.view;
 
 import com.example.fpoeminiproject3.controller.GameController;
 import com.example.fpoeminiproject3.model.*;
-import javafx.animation.KeyFrame;
-import javafx.animation.Timeline;
 import javafx.application.Platform;
 import javafx.geometry.Insets;
 import javafx.geometry.Pos;
 import javafx.scene.control.*;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.*;
 import javafx.scene.paint.Color;
 import javafx.scene.text.Font;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
 
 /**
  * The main game view for the game, implementing the user interface.
+ * Game state is rendered once per frame by a {@link FrameDispatcher}; the methods that touch the scene graph
+ * directly must be called on the FX thread.
  */
 public class GameView extends BorderPane {
     public GameController controller;
     private final Game game;
-    private final Timeline messageTimer;
+    private final FrameDispatcher dispatcher;
     private volatile boolean unoButtonActive = false;
+    private HashedWheelTimer.Timeout unoTimeout;
+    private HashedWheelTimer.Timeout messageExpiry;
+    private int messageCount;
 
     private HBox playerHand;
     private HBox machineHand;
@@ -36,7 +37,8 @@ public class GameView extends BorderPane {
     private Label currentPlayerLabel;
     private Label messageLabel;
     private Button unoButton;
-    private final Map<Card, ImageView> cardImageViews = new HashMap<>();
+    private final Deque<ImageView> cardViewPool = new ArrayDeque<>();
+    private final Deque<ImageView> cardBackPool = new ArrayDeque<>();
 
     /**
      * Constructs a new GameView with the specified controller and game model.
@@ -46,8 +48,49 @@ public class GameView extends BorderPane {
     public GameView(GameController controller, Game game) {
         this.controller = controller;
         this.game = game;
-        this.messageTimer = new Timeline();
+        this.dispatcher = new FrameDispatcher(this::render);
         initializeUI();
+        dispatcher.start();
+    }
+
+    /**
+     * Marks regions of the view to be rendered from a state on the next frame. Can be called from any thread.
+     * @param state the state to render
+     * @param regions the mask of {@link FrameDispatcher} regions to render again
+     */
+    public void invalidate(GameState state, int regions) {
+        dispatcher.post(state, regions);
+    }
+
+    /**
+     * Renders the dirty regions of the view from the latest state.
+     * @param state the state to render
+     * @param regions the mask of {@link FrameDispatcher} regions to render again
+     */
+    private void render(GameState state, int regions) {
+        if ((regions & FrameDispatcher.CURRENT_PLAYER) != 0) {
+            updateCurrentPlayer(state.currentPlayer());
+        }
+        if ((regions & FrameDispatcher.DISCARD_PILE) != 0) {
+            updateDiscardPile(state.topCard());
+        }
+        if ((regions & FrameDispatcher.MACHINE_HAND) != 0) {
+            updateMachineHand(state.machineCardCount());
+        }
+        if ((regions & FrameDispatcher.HUMAN_HAND) != 0) {
+            updateHumanHand(state.humanCards());
+        }
+        if ((regions & (FrameDispatcher.HUMAN_HAND | FrameDispatcher.CURRENT_PLAYER)) != 0) {
+            highlightPlayableCards(state);
+        }
+        if ((regions & FrameDispatcher.UNO_BUTTON) != 0) {
+            hideUnoButton();
+            if (state.winner() == null && state.humanCards().size() == 1) {
+                showUnoButtonWithTimeout(game.getHumanPlayer(), 4);
+            } else if (state.winner() == null && state.machineCardCount() == 1) {
+                showUnoButtonWithTimeout(game.getMachinePlayer(), 4);
+            }
+        }
     }
 
     /**
@@ -94,12 +137,11 @@ public class GameView extends BorderPane {
 
         machineHand = new HBox(10);
         machineHand.setAlignment(Pos.CENTER);
-        updatePlayerHand(game.getMachinePlayer());
 
         HBox cardsPanel = new HBox(30);
         cardsPanel.setAlignment(Pos.CENTER);
 
-        deckView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/com/example/fpoeminiproject3/images/deck_of_cards.png"))));
+        deckView = new ImageView(CardImageCache.deck());
         deckView.setFitHeight(120);
         deckView.setFitWidth(80);
         deckView.setOnMouseClicked(e -> controller.handleDrawCard());
@@ -107,13 +149,11 @@ public class GameView extends BorderPane {
         discardPileView = new ImageView();
         discardPileView.setFitHeight(120);
         discardPileView.setFitWidth(80);
-        updateDiscardPile(game.getTopDiscardCard());
 
         cardsPanel.getChildren().addAll(deckView, discardPileView);
 
         playerHand = new HBox(10);
         playerHand.setAlignment(Pos.CENTER);
-        updatePlayerHand(game.getHumanPlayer());
 
         centerPanel.add(machineHand, 0, 0);
         centerPanel.add(cardsPanel, 0, 1);
@@ -135,78 +175,137 @@ public class GameView extends BorderPane {
         exitButton.setStyle("-fx-background-color: #F44336; -fx-text-fill: white;");
         exitButton.setOnAction(e -> Platform.exit());
 
+        Button saveButton = new Button("Save");
+        saveButton.setFont(new Font(16));
+        saveButton.setOnAction(e -> controller.handleSave());
+
+        Button loadButton = new Button("Load");
+        loadButton.setFont(new Font(16));
+        loadButton.setOnAction(e -> controller.handleLoad());
+
         unoButton = new Button("UNO!");
         unoButton.setFont(new Font(16));
         unoButton.setStyle("-fx-background-color: #FF5252; -fx-text-fill: white; -fx-font-weight: bold;");
         unoButton.setOnAction(e -> handleUnoButtonClick());
         unoButton.setVisible(false);
 
-        bottomPanel.getChildren().addAll(exitButton, unoButton);
+        bottomPanel.getChildren().addAll(exitButton, saveButton, loadButton, unoButton);
         setBottom(bottomPanel);
     }
 
     /**
-     * Updates the visual representation of a player's hand.
-     * @param player the player whose hand to update
+     * Brings the views of the human hand in line with its cards, adding or removing only the cards that changed.
+     * Both the views and the cards are sorted by kind, so a single merge pass finds the cards
+     * that were added or removed and the views of the other cards are left untouched.
+     * @param cards the cards of the human player, sorted by kind
      */
-    public void updatePlayerHand(Player player) {
-        Platform.runLater(() -> {
-            if (player == game.getHumanPlayer()) {
-                playerHand.getChildren().clear();
-                cardImageViews.clear();
-
-                for (Card card : player.getCards()) {
-                    ImageView cardView = createCardView(card);
-                    cardImageViews.put(card, cardView);
-                    playerHand.getChildren().add(cardView);
-                }
+    private void updateHumanHand(List<Card> cards) {
+        var views = playerHand.getChildren();
+        int index = 0;
+        for (Card card : cards) {
+            while (index < views.size() && cardAt(index).getId() < card.getId()) {
+                cardViewPool.push((ImageView) views.remove(index));
+            }
+            if (index < views.size() && cardAt(index).getId() == card.getId()) {
+                index++;
             } else {
-                machineHand.getChildren().clear();
-                for (int i = 0; i < player.getDeckSize(); i++) {
-                    ImageView cardBack = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream("/com/example/fpoeminiproject3/images/card_uno.png"))));
-                    cardBack.setFitHeight(120);
-                    cardBack.setFitWidth(80);
-                    machineHand.getChildren().add(cardBack);
-                }
+                views.add(index++, obtainCardView(card));
             }
-        });
+        }
+        while (views.size() > index) {
+            cardViewPool.push((ImageView) views.remove(views.size() - 1));
+        }
+    }
+
+    /**
+     * Shows as many card backs as the machine player has cards, adding or removing only the difference.
+     * @param count the number of cards of the machine player
+     */
+    private void updateMachineHand(int count) {
+        var views = machineHand.getChildren();
+        while (views.size() > count) {
+            cardBackPool.push((ImageView) views.remove(views.size() - 1));
+        }
+        while (views.size() < count) {
+            views.add(cardBackPool.isEmpty() ? createCardBack() : cardBackPool.pop());
+        }
+    }
+
+    /**
+     * Gets the card shown by a view of the human hand.
+     * @param index the index of the view
+     * @return the card of that view
+     */
+    private Card cardAt(int index) {
+        return (Card) playerHand.getChildren().get(index).getUserData();
+    }
+
+    /**
+     * Gets a view showing a card, reusing a pooled one when available.
+     * @param card the card to show
+     * @return the view
+     */
+    private ImageView obtainCardView(Card card) {
+        ImageView cardView = cardViewPool.isEmpty() ? createCardView() : cardViewPool.pop();
+        cardView.setImage(CardImageCache.face(card));
+        cardView.setUserData(card);
+        cardView.setOpacity(1.0);
+        return cardView;
     }
 
     /**
-     * Creates a clickable card view for the specified card.
-     * @param card the card to create a view for
+     * Creates a clickable card view, which plays the card it currently shows when clicked.
      * @return the created ImageView
      */
-    private ImageView createCardView(Card card) {
-        ImageView cardView = new ImageView(new Image(Objects.requireNonNull(getClass().getResourceAsStream(card.getImageCardPath()))));
+    private ImageView createCardView() {
+        ImageView cardView = new ImageView();
         cardView.setFitHeight(120);
         cardView.setFitWidth(80);
         cardView.getStyleClass().add("card");
-        cardView.setOnMouseClicked(e -> controller.handleCardSelection(card));
+        cardView.setOnMouseClicked(e -> controller.handleCardSelection((Card) cardView.getUserData()));
         return cardView;
     }
 
+    /**
+     * Creates a view of the back of a card.
+     * @return the created ImageView
+     */
+    private ImageView createCardBack() {
+        ImageView cardBack = new ImageView(CardImageCache.back());
+        cardBack.setFitHeight(120);
+        cardBack.setFitWidth(80);
+        return cardBack;
+    }
+
+    /**
+     * Dims the cards of the human player's hand that can't be played during their turn.
+     * @param state the snapshot to render
+     */
+    private void highlightPlayableCards(GameState state) {
+        boolean humanTurn = state.currentPlayer() == game.getHumanPlayer();
+        for (var node : playerHand.getChildren()) {
+            Card card = (Card) node.getUserData();
+            boolean canPlay = !humanTurn || state.isPlayableByHuman(card);
+            node.setOpacity(canPlay ? 1.0 : 0.5);
+        }
+    }
+
     /**
      * Updates the discard pile view with the specified card.
      * @param card the card to display on the discard pile
      */
-    public void updateDiscardPile(Card card) {
-        Platform.runLater(() -> {
-            if (card != null) {
-                Image cardImage = new Image(Objects.requireNonNull(getClass().getResourceAsStream(card.getImageCardPath())));
-                discardPileView.setImage(cardImage);
-            }
-        });
+    private void updateDiscardPile(Card card) {
+        if (card != null) {
+            discardPileView.setImage(CardImageCache.face(card));
+        }
     }
 
     /**
      * Updates the current player label.
      * @param player the player whose turn it is
      */
-    public void updateCurrentPlayer(Player player) {
-        Platform.runLater(() -> {
-            currentPlayerLabel.setText("Turn of: " + player.getName());
-        });
+    private void updateCurrentPlayer(Player player) {
+        currentPlayerLabel.setText("Turn of: " + player.getName());
     }
 
     /**
@@ -217,10 +316,15 @@ public class GameView extends BorderPane {
     public void showTemporaryMessage(String message, int seconds) {
         Platform.runLater(() -> {
             messageLabel.setText(message);
-            messageTimer.stop();
-            messageTimer.getKeyFrames().clear();
-            messageTimer.getKeyFrames().add(new KeyFrame(Duration.seconds(seconds), e -> messageLabel.setText("")));
-            messageTimer.play();
+            if (messageExpiry != null) {
+                messageExpiry.cancel();
+            }
+            int shown = ++messageCount;
+            messageExpiry = HashedWheelTimer.shared().schedule(() -> Platform.runLater(() -> {
+                if (shown == messageCount) {
+                    messageLabel.setText("");
+                }
+            }), seconds * 1000L);
         });
     }
 
@@ -229,33 +333,25 @@ public class GameView extends BorderPane {
      * @param player the player who needs to call UNO
      * @param timeoutSeconds how long the button should be active
      */
-    public void showUnoButtonWithTimeout(Player player, int timeoutSeconds) {
-        Platform.runLater(() -> {
-            unoButtonActive = true;
+    private void showUnoButtonWithTimeout(Player player, int timeoutSeconds) {
+        unoButtonActive = true;
 
-            if (player == game.getHumanPlayer()) {
-                unoButton.setText("UNO!");
-                unoButton.setStyle("-fx-background-color: #FF5252; -fx-text-fill: white; -fx-font-weight: bold;");
-            } else {
-                unoButton.setText("Penalize Machine!");
-                unoButton.setStyle("-fx-background-color: #FF9800; -fx-text-fill: white; -fx-font-weight: bold;");
-            }
+        if (player == game.getHumanPlayer()) {
+            unoButton.setText("UNO!");
+            unoButton.setStyle("-fx-background-color: #FF5252; -fx-text-fill: white; -fx-font-weight: bold;");
+        } else {
+            unoButton.setText("Penalize Machine!");
+            unoButton.setStyle("-fx-background-color: #FF9800; -fx-text-fill: white; -fx-font-weight: bold;");
+        }
 
-            unoButton.setVisible(true);
-
-            new Thread(() -> {
-                try {
-                    Thread.sleep(timeoutSeconds * 1000L);
-                    Platform.runLater(() -> {
-                        if (unoButtonActive) {
-                            handleUnoTimeout(player);
-                        }
-                    });
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                }
-            }).start();
-        });
+        unoButton.setVisible(true);
+
+        cancelUnoTimeout();
+        unoTimeout = game.getScheduler().schedule(() -> Platform.runLater(() -> {
+            if (unoButtonActive) {
+                handleUnoTimeout(player);
+            }
+        }), timeoutSeconds * 1000L);
     }
 
     /**
@@ -276,10 +372,11 @@ public class GameView extends BorderPane {
     public void handleUnoButtonClick() {
         if (unoButtonActive) {
             unoButtonActive = false;
-            if (game.getHumanPlayer().getDeckSize() == 1) {
+            GameState state = game.getState();
+            if (state.humanCards().size() == 1) {
                 controller.handleUnoCall();
-            } else if (game.getMachinePlayer().getDeckSize() == 1) {
-                game.checkUnoPenalty(game.getMachinePlayer());
+            } else if (state.machineCardCount() == 1) {
+                controller.handleMachineUnoPenalty();
                 hideUnoButton();
             }
         }
@@ -289,10 +386,19 @@ public class GameView extends BorderPane {
      * Hides the UNO button.
      */
     public void hideUnoButton() {
-        Platform.runLater(() -> {
-            unoButtonActive = false;
-            unoButton.setVisible(false);
-        });
+        unoButtonActive = false;
+        unoButton.setVisible(false);
+        cancelUnoTimeout();
+    }
+
+    /**
+     * Cancels the pending UNO timeout, if any.
+     */
+    private void cancelUnoTimeout() {
+        if (unoTimeout != null) {
+            unoTimeout.cancel();
+            unoTimeout = null;
+        }
     }
 
     /**
@@ -326,7 +432,6 @@ public class GameView extends BorderPane {
                 };
 
                 if (selectedColor != null) {
-                    game.getHumanPlayer().selectColor(selectedColor);
                     controller.handleColorSelection(selectedColor);
                 }
             });
@@ -336,10 +441,13 @@ public class GameView extends BorderPane {
     /**
      * Shows the game over dialog when a player wins.
      * @param winner the winning player
+     * @param state the final snapshot of the game
      */
-    public void showGameOver(Player winner) {
+    public void showGameOver(Player winner, GameState state) {
+        dispatcher.post(state, FrameDispatcher.ALL);
         Platform.runLater(() -> {
-            updateDiscardPile(game.getTopDiscardCard());
+            dispatcher.flush();
+            dispatcher.stop();
 
             Alert alert = new Alert(Alert.AlertType.INFORMATION);
             alert.setTitle("Game over");
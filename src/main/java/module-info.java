@@ -3,6 +3,8 @@ module com.example.fpoeminiproject3 {
     requires javafx.fxml;
     requires javafx.graphics;
     requires javafx.base;
+    requires java.management;
+    requires jdk.jfr;
 
     opens com.example.fpoeminiproject3 to javafx.fxml;
     opens com.example.fpoeminiproject3.controller to javafx.fxml;
@@ -10,7 +12,14 @@ module com.example.fpoeminiproject3 {
     opens com.example.fpoeminiproject3.view to javafx.fxml;
 
     exports com.example.fpoeminiproject3;
+    exports com.example.fpoeminiproject3.ai;
     exports com.example.fpoeminiproject3.controller;
+    exports com.example.fpoeminiproject3.jfr;
+    exports com.example.fpoeminiproject3.journal;
+    exports com.example.fpoeminiproject3.metrics;
     exports com.example.fpoeminiproject3.model;
+    exports com.example.fpoeminiproject3.server;
+    exports com.example.fpoeminiproject3.simulation;
+    exports com.example.fpoeminiproject3.sync;
     exports com.example.fpoeminiproject3.view;
 }
\ No newline at end of file
@@ -0,0 +1,143 @@
+package com.example.fpoeminiproject3.ai;
+
+import com.example.fpoeminiproject3.model.*;
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valida que todas las estrategias de la máquina jueguen partidas completas con jugadas legales.
+ */
+public class StrategiesTest {
+
+    /**
+     * Prueba enfrentar cada estrategia contra sí misma.
+     * Verifica que las partidas terminen con un ganador sin cartas.
+     */
+    @Test
+    public void testStrategiesFinishGames() {
+        SplittableRandom random = new SplittableRandom(7);
+        for (String name : Strategies.NAMES) {
+            int games = name.equals("ismcts") ? 3 : 200;
+            for (int i = 0; i < games; i++) {
+                Game game = new Game("Simulado", false, random.split());
+                game.getMachinePlayer().setStrategy(Strategies.create(name, random.split(), 2, 5));
+                Strategy human = Strategies.create(name, random.split(), 2, 5);
+                Player winner = GameSimulator.play(game, human);
+                assertNotNull(winner, "La partida con la estrategia " + name + " debe terminar");
+                assertEquals(0, winner.getDeckSize(), "El ganador no debe tener cartas");
+            }
+        }
+    }
+
+    /**
+     * Prueba una estrategia que siempre elige una carta que no tiene.
+     * Verifica que la máquina roba en su lugar y que el turno avanza en vez de quedarse en la máquina.
+     * @throws GameException Si el jugador humano no puede robar.
+     */
+    @Test
+    public void testIllegalMoveFallsBackToDraw() throws GameException {
+        Game game = new Game("Simulado", false, new SplittableRandom(8));
+        game.getMachinePlayer().setStrategy((current, player, budgetMillis) -> {
+            int id = 0;
+            while (player.getHand().count(id) > 0) {
+                id++;
+            }
+            return Move.play(id, CardColor.RED);
+        });
+
+        MachinePlayer machine = game.getMachinePlayer();
+        while (game.getCurrentPlayer() != machine) {
+            game.drawCard(game.getHumanPlayer());
+        }
+        int drawn = machine.getCardsDrawn();
+        int turn = game.getTurnCount();
+
+        machine.playTurn();
+
+        assertTrue(machine.getCardsDrawn() > drawn, "La máquina debe robar en lugar de la jugada ilegal");
+        assertTrue(game.getTurnCount() > turn, "El turno no debe quedarse en la máquina");
+    }
+
+    /**
+     * Prueba pedir una estrategia desconocida.
+     */
+    @Test
+    public void testUnknownStrategy() {
+        assertThrows(IllegalArgumentException.class, () -> Strategies.create("nada", new SplittableRandom(), 1, 1));
+    }
+
+    /**
+     * Prueba que reemplazar la estrategia de la máquina desconecta la anterior del juego.
+     * Verifica que la estrategia reemplazada deja de recibir notificaciones y que la nueva las recibe.
+     */
+    @Test
+    public void testReplacedStrategyIsDetached() {
+        Game game = new Game("Simulado", false, new SplittableRandom(3));
+        CountingStrategy first = new CountingStrategy();
+        CountingStrategy second = new CountingStrategy();
+        game.getMachinePlayer().setStrategy(first);
+        game.getMachinePlayer().setStrategy(second);
+        game.getMachinePlayer().setStrategy(new GreedyStrategy(new SplittableRandom(5)));
+        game.getMachinePlayer().setStrategy(second);
+
+        GameSimulator.play(game, new GreedyStrategy(new SplittableRandom(6)));
+
+        assertEquals(0, first.turns.get(), "La estrategia reemplazada no debe observar el juego");
+        assertTrue(second.turns.get() > 0, "La estrategia actual debe observar el juego");
+    }
+
+    /**
+     * Estrategia voraz que cuenta los turnos que observa mientras está conectada al juego.
+     */
+    private static final class CountingStrategy extends GreedyStrategy {
+        private final AtomicInteger turns = new AtomicInteger();
+        private final GameObserver observer = new GameObserver() {
+            @Override
+            public void onTurnStarted(Player player) {
+                turns.incrementAndGet();
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+            }
+
+            @Override
+            public void onCardDrawn(Player player, Card card) {
+            }
+
+            @Override
+            public void onUnoCalled(Player player) {
+            }
+
+            @Override
+            public void onGameOver(Player winner) {
+            }
+
+            @Override
+            public void onColorSelected(Player player, CardColor color) {
+            }
+        };
+
+        /**
+         * Crea la estrategia con una semilla fija.
+         */
+        private CountingStrategy() {
+            super(new SplittableRandom(4));
+        }
+
+        @Override
+        public void attach(Game game, Player player) {
+            game.addObserver(observer);
+        }
+
+        @Override
+        public void detach(Game game, Player player) {
+            game.removeObserver(observer);
+        }
+    }
+}
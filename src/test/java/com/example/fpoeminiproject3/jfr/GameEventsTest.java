@@ -0,0 +1,61 @@
+package com.example.fpoeminiproject3.jfr;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que las acciones de una partida se registran como eventos de JFR.
+ */
+public class GameEventsTest {
+
+    /**
+     * Prueba que una partida grabada con JFR produce eventos de turnos, jugadas, robos y decisiones.
+     * Verifica los tipos de eventos grabados y que las jugadas llevan el jugador y la carta.
+     * @throws Exception Si falla la grabación.
+     */
+    @Test
+    public void testGameIsRecorded() throws Exception {
+        Path file = Files.createTempFile("uno", ".jfr");
+        try (Recording recording = new Recording()) {
+            for (String name : List.of("Turn", "CardPlayed", "CardDrawn", "AiDecision", "Reshuffle", "UnoPenalty")) {
+                recording.enable("com.example.fpoeminiproject3." + name).withoutThreshold();
+            }
+            recording.start();
+            for (int seed = 0; seed < 5; seed++) {
+                GameSimulator.play(new Game("JugadorPrueba", false, new SplittableRandom(seed)));
+            }
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            Set<String> types = events.stream()
+                    .map(event -> event.getEventType().getName())
+                    .collect(Collectors.toSet());
+            assertTrue(types.contains("com.example.fpoeminiproject3.Turn"));
+            assertTrue(types.contains("com.example.fpoeminiproject3.CardPlayed"));
+            assertTrue(types.contains("com.example.fpoeminiproject3.CardDrawn"));
+            assertTrue(types.contains("com.example.fpoeminiproject3.AiDecision"));
+
+            RecordedEvent played = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("com.example.fpoeminiproject3.CardPlayed"))
+                    .findFirst().orElseThrow();
+            assertNotNull(played.getString("player"));
+            assertNotNull(played.getString("card"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
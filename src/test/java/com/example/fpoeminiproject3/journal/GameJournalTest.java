@@ -0,0 +1,161 @@
+package com.example.fpoeminiproject3.journal;
+
+import com.example.fpoeminiproject3.model.*;
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el diario de partidas guarda los eventos y los reproduce en el mismo orden.
+ */
+public class GameJournalTest {
+    @TempDir
+    Path directory;
+
+    /**
+     * Observador que guarda cada evento como texto.
+     */
+    private static class RecordingObserver implements GameObserver {
+        private final List<String> events = new ArrayList<>();
+
+        @Override
+        public void onTurnStarted(Player player) {
+            events.add("turn " + player.getName());
+        }
+
+        @Override
+        public void onCardPlayed(Player player, Card card) {
+            events.add("play " + player.getName() + " " + card.getId());
+        }
+
+        @Override
+        public void onCardDrawn(Player player, Card card) {
+            events.add("draw " + player.getName() + " " + (card == null ? "-" : card.getId()));
+        }
+
+        @Override
+        public void onUnoCalled(Player player) {
+            events.add("uno " + player.getName());
+        }
+
+        @Override
+        public void onGameOver(Player winner) {
+            events.add("over " + winner.getName());
+        }
+
+        @Override
+        public void onColorSelected(Player player, CardColor color) {
+            events.add("color " + player.getName() + " " + color);
+        }
+
+        @Override
+        public void onGameRestored(Player player, Card topCard, CardColor color) {
+            events.add("restored " + player.getName() + " " + topCard.getId() + " " + color);
+        }
+    }
+
+    /**
+     * Prueba que una partida completa se reproduce igual que se jugó.
+     * Verifica que la secuencia de eventos reproducida coincide con la observada durante la partida.
+     * @throws IOException Si el diario no se puede escribir o leer.
+     */
+    @Test
+    public void testReplayMatchesGame() throws IOException {
+        Path file = directory.resolve("game.unoj");
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(7));
+        RecordingObserver live = new RecordingObserver();
+        game.addObserver(live);
+        try (GameJournal journal = new GameJournal(file, game)) {
+            game.addObserver(journal);
+            Player winner = GameSimulator.play(game, new RandomStrategy(new SplittableRandom(11)));
+            assertNotNull(winner, "La partida debe terminar");
+        }
+
+        RecordingObserver replayed = new RecordingObserver();
+        GameJournal.replay(file, game.getHumanPlayer(), game.getMachinePlayer(), replayed);
+        assertEquals(live.events, replayed.events);
+        assertEquals(GameJournal.GAME_OVER, GameJournal.read(file).get(live.events.size() - 1).type());
+    }
+
+    /**
+     * Prueba que la semilla guardada en el diario vuelve a jugar la misma partida.
+     * Verifica que una partida creada con la semilla leída produce exactamente los mismos eventos.
+     * @throws IOException Si el diario no se puede escribir o leer.
+     */
+    @Test
+    public void testSeedReproducesGame() throws IOException {
+        Path file = directory.resolve("seeded.unoj");
+        Game game = new Game("JugadorPrueba", false, 42L);
+        RecordingObserver original = new RecordingObserver();
+        game.addObserver(original);
+        try (GameJournal journal = new GameJournal(file, game)) {
+            game.addObserver(journal);
+            GameSimulator.play(game, new RandomStrategy(new SplittableRandom(11)));
+        }
+
+        long seed = GameJournal.readSeed(file);
+        assertEquals(42L, seed);
+        Game again = new Game("JugadorPrueba", false, seed);
+        RecordingObserver repeated = new RecordingObserver();
+        again.addObserver(repeated);
+        GameSimulator.play(again, new RandomStrategy(new SplittableRandom(11)));
+
+        assertEquals(original.events, repeated.events);
+        assertArrayEquals(game.save(), again.save());
+    }
+
+    /**
+     * Prueba que un diario sin cerrar se puede leer hasta el último evento escrito.
+     * Verifica que los eventos escritos antes de una caída no se pierden.
+     * @throws IOException Si el diario no se puede escribir o leer.
+     */
+    @Test
+    public void testUnclosedJournalIsReadable() throws IOException {
+        Path file = directory.resolve("crash.unoj");
+        Game game = new Game("JugadorPrueba", false);
+        GameJournal journal = new GameJournal(file, game);
+        journal.onTurnStarted(game.getHumanPlayer());
+        journal.onCardDrawn(game.getHumanPlayer(), null);
+
+        List<GameJournal.Event> events = GameJournal.read(file);
+        assertEquals(2, events.size());
+        assertEquals(GameJournal.CARD_DRAWN, events.get(1).type());
+        assertEquals(GameJournal.NONE, events.get(1).cardId(), "Las cartas ocultas se guardan como desconocidas");
+        journal.close();
+    }
+
+    /**
+     * Prueba que el diario sigue escribiendo cuando se restaura una partida que ya terminó.
+     * Verifica que la restauración queda registrada y se reproduce igual que se observó.
+     * @throws IOException Si el diario no se puede escribir o leer.
+     */
+    @Test
+    public void testJournalOutlivesGameOver() throws IOException {
+        Path file = directory.resolve("restored.unoj");
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(5));
+        byte[] start = game.save();
+        RecordingObserver live = new RecordingObserver();
+        game.addObserver(live);
+        try (GameJournal journal = new GameJournal(file, game)) {
+            game.addObserver(journal);
+            assertNotNull(GameSimulator.play(game, new RandomStrategy(new SplittableRandom(9))));
+            game.restore(start, 0);
+            GameSimulator.play(game, new RandomStrategy(new SplittableRandom(9)));
+        }
+
+        List<GameJournal.Event> events = GameJournal.read(file);
+        assertEquals(1, events.stream().filter(event -> event.type() == GameJournal.RESTORED).count());
+        assertEquals(2, events.stream().filter(event -> event.type() == GameJournal.GAME_OVER).count());
+        RecordingObserver replayed = new RecordingObserver();
+        GameJournal.replay(file, game.getHumanPlayer(), game.getMachinePlayer(), replayed);
+        assertEquals(live.events, replayed.events);
+    }
+}
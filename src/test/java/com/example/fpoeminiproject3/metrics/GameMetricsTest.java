@@ -0,0 +1,78 @@
+package com.example.fpoeminiproject3.metrics;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica los histogramas de cubetas fijas y que el motor registra sus métricas.
+ */
+public class GameMetricsTest {
+
+    /**
+     * Prueba que cada valor cae en una cubeta cuyo límite superior lo contiene con a lo sumo un 25% de error.
+     * Verifica valores pequeños exactos y potencias de dos grandes.
+     */
+    @Test
+    public void testBucketBounds() {
+        for (long value : new long[] {0, 1, 7, 8, 9, 15, 16, 1000, 123_456_789L, Long.MAX_VALUE}) {
+            int bucket = Histogram.bucketOf(value);
+            assertTrue(bucket < Histogram.BUCKET_COUNT);
+            long upper = Histogram.upperBound(bucket);
+            assertTrue(upper >= value, "El límite debe contener el valor " + value);
+            assertTrue(upper - value <= Math.max(0, value / 4), "Error demasiado grande para " + value);
+        }
+        assertEquals(7, Histogram.upperBound(Histogram.bucketOf(7)));
+    }
+
+    /**
+     * Prueba los percentiles de un histograma con valores del 1 al 1000.
+     * Verifica la cuenta, la media, el máximo y que la mediana y el percentil 99 están cerca de su valor real.
+     */
+    @Test
+    public void testPercentiles() {
+        Histogram histogram = new Histogram("prueba", "ns");
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i);
+        }
+
+        assertEquals(1000, histogram.count());
+        assertEquals(500.5, histogram.mean(), 1e-9);
+        assertEquals(1000, histogram.max());
+        assertTrue(histogram.percentile(50) >= 500 && histogram.percentile(50) <= 625);
+        assertTrue(histogram.percentile(99) >= 990 && histogram.percentile(99) <= 1000);
+
+        histogram.reset();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.percentile(99));
+    }
+
+    /**
+     * Prueba que una partida simulada registra jugadas, robos y decisiones, y que JMX las publica.
+     * Verifica que los contadores crecen y que el MBean registrado devuelve la misma cuenta de jugadas.
+     * @throws Exception Si falla el acceso a JMX.
+     */
+    @Test
+    public void testGameRecordsMetrics() throws Exception {
+        long played = GameMetrics.PLAY_CARD.count();
+        long decisions = GameMetrics.AI_DECISION.count();
+
+        GameSimulator.play(new Game("JugadorPrueba", false, new SplittableRandom(8)));
+
+        assertTrue(GameMetrics.PLAY_CARD.count() > played, "Se deben registrar cartas jugadas");
+        assertTrue(GameMetrics.AI_DECISION.count() > decisions, "Se deben registrar decisiones de la máquina");
+        assertTrue(GameMetrics.summary().contains("playCard count="));
+
+        GameMetrics.register();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        long viaJmx = (Long) server.getAttribute(new ObjectName(GameMetrics.OBJECT_NAME), "PlayCardCount");
+        assertEquals(GameMetrics.PLAY_CARD.count(), viaJmx);
+    }
+}
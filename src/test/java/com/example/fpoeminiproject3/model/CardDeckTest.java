@@ -29,4 +29,28 @@ public class CardDeckTest {
         CardDeck deck = new CardDeck();
         assertEquals(64, deck.getDrawPileSize() + deck.getDiscardPileSize(), "El mazo inicial debe tener 64 cartas");
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba rebarajar el descarte cuando el mazo se agota.
+     * Verifica que se conserve la carta superior del descarte y que no se pierdan cartas.
+     */
+    @Test
+    public void testReshuffleDiscardPile() {
+        CardDeck deck = new CardDeck();
+        int[] counts = new int[Card.KIND_COUNT];
+        for (int i = 0; i < CardDeck.SIZE; i++) {
+            Card card = deck.drawCard();
+            counts[card.getId()]++;
+            deck.discardCard(card);
+        }
+        assertEquals(0, deck.getDrawPileSize(), "El mazo debería estar vacío");
+        assertEquals(4, counts[Card.WILD_ID], "El mazo debe tener 4 comodines");
+        assertEquals(2, counts[Card.of(CardColor.RED, CardType.DRAW_TWO).getId()], "El mazo debe tener 2 cartas +2 de cada color");
+
+        Card top = deck.getTopDiscardCard();
+        deck.drawCard();
+        assertSame(top, deck.getTopDiscardCard(), "La carta superior del descarte debe conservarse");
+        assertEquals(1, deck.getDiscardPileSize(), "Solo la carta superior debe quedar en el descarte");
+        assertEquals(62, deck.getDrawPileSize(), "El resto del descarte debe pasar al mazo");
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valida la tabla de compatibilidad de cartas usada para validar jugadas.
+ */
+public class CardRulesTest {
+
+    /**
+     * Prueba la tabla contra las reglas originales de similitud de cartas.
+     * Verifica que sobre una carta de color se pueda jugar el mismo color, el mismo tipo o un comodín.
+     */
+    @Test
+    public void testColoredTopCard() {
+        for (int top = 0; top < Card.WILD_ID; top++) {
+            Card topCard = Card.fromId(top);
+            for (int id = 0; id < Card.KIND_COUNT; id++) {
+                Card card = Card.fromId(id);
+                assertEquals(card.similarCard(topCard), CardRules.canPlay(id, top, topCard.getColor()),
+                        card + " sobre " + topCard);
+            }
+        }
+    }
+
+    /**
+     * Prueba jugar sobre un comodín.
+     * Verifica que solo se acepten cartas del color elegido y otros comodines.
+     */
+    @Test
+    public void testWildTopCard() {
+        long playable = CardRules.playableKinds(Card.WILD_DRAW_FOUR_ID, CardColor.GREEN);
+        assertEquals(Hand.kindsOfColor(CardColor.GREEN) | Hand.kindsOfColor(CardColor.WILD), playable,
+                "Sobre un comodín solo se juega el color elegido o un comodín");
+        assertFalse(CardRules.canPlay(Card.of(CardColor.RED, CardType.FOUR).getId(), Card.WILD_ID, CardColor.GREEN));
+    }
+}
@@ -36,4 +36,20 @@ public class CardTest {
         Card blueTwo = new Card(CardColor.BLUE, CardType.TWO);
         assertEquals("/com/example/fpoeminiproject3/images/2_blue.png", blueTwo.getImageCardPath(), "Ruta de imagen incorrecta para carta numérica");
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba la tabla compartida de cartas.
+     * Verifica que cada tipo de carta tenga una única instancia y un identificador estable.
+     */
+    @Test
+    public void testFlyweightCards() {
+        assertSame(Card.of(CardColor.RED, CardType.SKIP), Card.of(CardColor.RED, CardType.SKIP), "Debe reutilizarse la misma instancia");
+        for (int id = 0; id < Card.KIND_COUNT; id++) {
+            Card card = Card.fromId(id);
+            assertEquals(id, card.getId(), "El identificador debe coincidir con la posición en la tabla");
+            assertEquals(new Card(card.getColor(), card.getType()), card, "Cartas del mismo tipo deben ser iguales");
+            assertEquals(new Card(card.getColor(), card.getType()).ImagePath(), card.getImageCardPath(), "La ruta precalculada debe ser correcta");
+        }
+        assertThrows(IllegalArgumentException.class, () -> Card.of(CardColor.WILD, CardType.FIVE), "No existe un comodín numérico");
+    }
+}
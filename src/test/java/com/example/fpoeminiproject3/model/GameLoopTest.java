@@ -0,0 +1,153 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el bucle del juego ejecuta los comandos de uno en uno y publica instantáneas coherentes.
+ */
+public class GameLoopTest {
+
+    /**
+     * Prueba que los comandos enviados desde varios hilos se ejecutan todos y sin solaparse.
+     * Verifica que la lista, que no es segura entre hilos, recibe exactamente un elemento por comando.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testCommandsRunOneAtATime() throws Exception {
+        GameLoop loop = new GameLoop();
+        List<Integer> values = new ArrayList<>();
+        int threads = 4;
+        int commands = 1000;
+        CountDownLatch done = new CountDownLatch(threads * commands);
+        List<Thread> producers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < commands; i++) {
+                    loop.execute(() -> {
+                        assertTrue(loop.inLoop());
+                        values.add(values.size());
+                        done.countDown();
+                    });
+                }
+            });
+            producers.add(producer);
+            producer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertTrue(done.await(5, TimeUnit.SECONDS), "Todos los comandos deben ejecutarse");
+        assertEquals(threads * commands, values.size());
+        assertFalse(loop.inLoop(), "El hilo de la prueba no es el del bucle");
+    }
+
+    /**
+     * Prueba que un comando enviado al juego se ejecuta en su bucle y actualiza la instantánea.
+     * Verifica que tras robar el humano, la instantánea refleja la carta robada.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testSubmittedCommandUpdatesState() throws Exception {
+        Game game = new Game("JugadorPrueba");
+        HumanPlayer human = game.getHumanPlayer();
+        CountDownLatch drawn = new CountDownLatch(1);
+
+        game.submit(() -> {
+            assertTrue(game.isOnLoop());
+            game.drawCard(human);
+            drawn.countDown();
+        }, e -> fail(e.getMessage()));
+
+        assertTrue(drawn.await(5, TimeUnit.SECONDS), "El comando debe ejecutarse en el bucle");
+        GameState state = game.getState();
+        assertEquals(6, state.humanCards().size(), "La instantánea debe incluir la carta robada");
+        assertNull(state.winner());
+    }
+
+    /**
+     * Prueba que robar de forma asíncrona devuelve el estado resultante sin bloquear.
+     * Verifica que el futuro se completa con la mano del humano con una carta más.
+     * @throws Exception Si la espera falla.
+     */
+    @Test
+    public void testDrawCardAsyncCompletesWithState() throws Exception {
+        Game game = new Game("JugadorPrueba");
+
+        GameState state = game.drawCardAsync(game.getHumanPlayer()).get(5, TimeUnit.SECONDS);
+
+        assertEquals(6, state.humanCards().size());
+        assertSame(game.getMachinePlayer(), state.currentPlayer());
+    }
+
+    /**
+     * Prueba que una jugada rechazada hace fallar el futuro con la excepción del juego.
+     * Verifica que la máquina no puede jugar en el turno del humano.
+     */
+    @Test
+    public void testRejectedMoveFailsFuture() {
+        Game game = new Game("JugadorPrueba");
+        MachinePlayer machine = game.getMachinePlayer();
+
+        CompletableFuture<GameState> move = game.playCardAsync(machine, machine.getCards().get(0), null);
+
+        ExecutionException e = assertThrows(ExecutionException.class, () -> move.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(GameException.class, e.getCause());
+    }
+
+    /**
+     * Prueba que el bucle sigue atendiendo comandos mientras la máquina piensa.
+     * Verifica que un comando enviado durante una decisión bloqueada termina antes que ella,
+     * y que la jugada se aplica al liberarla.
+     * @throws Exception Si la espera es interrumpida o expira.
+     */
+    @Test
+    public void testLoopIsFreeWhileMachineThinks() throws Exception {
+        CountDownLatch thinking = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Game game = new Game("JugadorPrueba", TurnScheduler.immediate(), 2L);
+        MachinePlayer machine = game.getMachinePlayer();
+        machine.setStrategy(new Strategy() {
+            @Override
+            public int chooseMove(Game game, Player player, long budgetMillis) {
+                return Move.DRAW;
+            }
+
+            @Override
+            public IntSupplier prepareMove(Game game, Player player, long budgetMillis) {
+                return () -> {
+                    thinking.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Move.DRAW;
+                };
+            }
+        });
+        game.drawCardAsync(game.getHumanPlayer()).get(5, TimeUnit.SECONDS);
+        assertTrue(thinking.await(5, TimeUnit.SECONDS), "La máquina debe empezar a pensar");
+
+        GameState state = game.submitAsync(() -> { }).get(1, TimeUnit.SECONDS);
+        assertSame(machine, state.currentPlayer(), "La máquina aún no ha jugado");
+
+        int cards = machine.getDeckSize();
+        release.countDown();
+        for (int i = 0; i < 100 && game.getState().currentPlayer() == machine; i++) {
+            Thread.sleep(20);
+        }
+        assertSame(game.getHumanPlayer(), game.getState().currentPlayer(), "La jugada debe aplicarse al terminar");
+        assertTrue(game.getState().machineCardCount() >= cards);
+    }
+}
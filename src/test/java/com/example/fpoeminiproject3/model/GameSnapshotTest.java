@@ -0,0 +1,222 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el estado completo de una partida se guarda y se restaura sin pérdidas.
+ */
+public class GameSnapshotTest {
+
+    /**
+     * Juega algunos turnos de una partida sin ritmo.
+     * @param game la partida
+     * @param turns el número de turnos a jugar
+     * @throws GameException Si una jugada es rechazada.
+     */
+    private static void playTurns(Game game, int turns) throws GameException {
+        RandomStrategy strategy = new RandomStrategy(new SplittableRandom(3));
+        HumanPlayer human = game.getHumanPlayer();
+        for (int i = 0; i < turns && !game.isOver(); i++) {
+            if (game.getCurrentPlayer() == game.getMachinePlayer()) {
+                game.getMachinePlayer().playTurn();
+                continue;
+            }
+            int move = strategy.chooseMove(game, human, 0);
+            if (Move.isDraw(move)) {
+                game.drawCard(human);
+            } else {
+                human.selectColor(Move.color(move));
+                game.playCard(human, Move.card(move));
+            }
+        }
+    }
+
+    /**
+     * Prueba que una partida restaurada en otra instancia queda idéntica.
+     * Verifica las manos, la carta superior, el color, el jugador actual y los bytes del estado.
+     * @throws GameException Si una jugada es rechazada.
+     */
+    @Test
+    public void testRestoreCopiesState() throws GameException {
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(5));
+        playTurns(game, 12);
+        byte[] snapshot = game.save();
+        assertEquals(Game.SNAPSHOT_SIZE, snapshot.length);
+
+        Game copy = new Game("Copia", false, new SplittableRandom(9));
+        copy.restore(snapshot, 0);
+
+        assertArrayEquals(snapshot, copy.save());
+        assertEquals(game.getHumanPlayer().getCards(), copy.getHumanPlayer().getCards());
+        assertEquals(game.getMachinePlayer().getCards(), copy.getMachinePlayer().getCards());
+        assertEquals(game.getTopDiscardCard(), copy.getTopDiscardCard());
+        assertEquals(game.getCurrentColor(), copy.getCurrentColor());
+        assertEquals(game.getDrawPileSize(), copy.getDrawPileSize());
+        assertEquals(game.getTurnCount(), copy.getTurnCount());
+        assertEquals(game.getCurrentPlayer() == game.getHumanPlayer(),
+                copy.getCurrentPlayer() == copy.getHumanPlayer());
+    }
+
+    /**
+     * Prueba que un estado corrupto es rechazado sin modificar la partida.
+     * Verifica que una carta de más provoca un error y que el estado anterior se conserva.
+     */
+    @Test
+    public void testCorruptedSnapshotIsRejected() {
+        Game game = new Game("JugadorPrueba", false);
+        byte[] before = game.save();
+        byte[] corrupted = before.clone();
+        corrupted[Game.SNAPSHOT_SIZE - 1] = corrupted[Game.SNAPSHOT_SIZE - 2] = (byte) Card.WILD_ID;
+        corrupted[Game.SNAPSHOT_SIZE - 3] = corrupted[Game.SNAPSHOT_SIZE - 4] = (byte) Card.WILD_ID;
+        corrupted[Game.SNAPSHOT_SIZE - 5] = (byte) Card.WILD_ID;
+
+        assertThrows(IllegalArgumentException.class, () -> game.restore(corrupted, 0));
+        assertArrayEquals(before, game.save(), "La partida no debe cambiar");
+    }
+
+    /**
+     * Prueba que el estado inicial de cualquier semilla es un estado válido.
+     * Verifica que las cartas especiales descartadas al buscar la primera carta no se pierden.
+     */
+    @Test
+    public void testInitialDealIsValidSnapshot() {
+        Game copy = new Game("Copia", false, 0L);
+        for (long seed = 0; seed < 500; seed++) {
+            byte[] snapshot = new Game("JugadorPrueba", false, seed).save();
+            copy.restore(snapshot, 0);
+            assertArrayEquals(snapshot, copy.save(), "Semilla " + seed);
+        }
+    }
+
+    /**
+     * Prueba que restaurar una partida descarta la jugada que la máquina estaba pensando.
+     * Verifica que la primera jugada de la máquina tras restaurar es la elegida para el estado restaurado,
+     * aunque la jugada pendiente también sea legal en él.
+     * @throws Exception Si la partida rechaza una jugada o la espera se interrumpe.
+     */
+    @Test
+    public void testRestoreDropsPendingMachineMove() throws Exception {
+        int[] buffer = new int[Move.MAX_MOVES];
+        Strategy firstMove = (game, player, budget) -> game.legalMoves(player, buffer) == 0 ? Move.DRAW : buffer[0];
+        CountDownLatch thinking = new CountDownLatch(1);
+        int[] pending = new int[1];
+        Game game = new Game("JugadorPrueba", new TurnScheduler(0, 300, 300), 1L);
+        game.getMachinePlayer().setStrategy((g, player, budget) -> {
+            pending[0] = firstMove.chooseMove(g, player, budget);
+            thinking.countDown();
+            return pending[0];
+        });
+        game.drawCardAsync(game.getHumanPlayer()).join();
+        assertTrue(thinking.await(5, TimeUnit.SECONDS));
+
+        byte[] snapshot = null;
+        int expected = 0;
+        for (long seed = 0; snapshot == null; seed++) {
+            Game other = new Game("Otra", false, seed);
+            other.drawCard(other.getHumanPlayer());
+            int move = firstMove.chooseMove(other, other.getMachinePlayer(), 0);
+            Card stale = Move.card(pending[0]);
+            if (!other.isOver() && !Move.isDraw(move) && Move.card(move) != stale
+                    && other.getMachinePlayer().getHand().count(stale.getId()) > 0 && other.isPlayable(stale)) {
+                snapshot = other.save();
+                expected = move;
+            }
+        }
+
+        CompletableFuture<Card> firstPlayed = new CompletableFuture<>();
+        game.addObserver(new GameObserver() {
+            @Override
+            public void onTurnStarted(Player player) {
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+                if (player == game.getMachinePlayer()) {
+                    firstPlayed.complete(card);
+                }
+            }
+
+            @Override
+            public void onCardDrawn(Player player, Card card) {
+                if (player == game.getMachinePlayer() && card != null) {
+                    firstPlayed.complete(null);
+                }
+            }
+
+            @Override
+            public void onUnoCalled(Player player) {
+            }
+
+            @Override
+            public void onGameOver(Player winner) {
+            }
+
+            @Override
+            public void onColorSelected(Player player, CardColor color) {
+            }
+        });
+        byte[] restored = snapshot;
+        game.submitAsync(() -> game.restore(restored, 0)).join();
+
+        assertEquals(Move.card(expected), firstPlayed.get(5, TimeUnit.SECONDS),
+                "La máquina debe jugar lo elegido para el estado restaurado");
+    }
+
+    /**
+     * Cuenta las cartas de cada tipo que el jugador humano no ve: el mazo de robo y la mano de la máquina.
+     * @param game la partida
+     * @return las cartas ocultas por tipo
+     */
+    private static int[] hiddenCounts(Game game) {
+        byte[] snapshot = game.save();
+        int[] counts = new int[Card.KIND_COUNT];
+        for (int i = 0; i < game.getDrawPileSize(); i++) {
+            counts[snapshot[16 + i]]++;
+        }
+        for (Card card : game.getMachinePlayer().getCards()) {
+            counts[card.getId()]++;
+        }
+        return counts;
+    }
+
+    /**
+     * Prueba repartir de nuevo las cartas que un jugador no ve.
+     * Verifica que la mano del jugador, el descarte y los tamaños no cambian, que las cartas ocultas son las mismas
+     * y que la mano del rival cambia en alguno de los repartos.
+     * @throws GameException Si alguna jugada es rechazada.
+     */
+    @Test
+    public void testRedealHiddenKeepsPlayerView() throws GameException {
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(6));
+        playTurns(game, 10);
+        HumanPlayer human = game.getHumanPlayer();
+        List<Card> hand = human.getCards();
+        List<Card> machineHand = game.getMachinePlayer().getCards();
+        Card top = game.getTopDiscardCard();
+        int drawSize = game.getDrawPileSize();
+        byte[] before = game.save();
+        int[] hidden = hiddenCounts(game);
+
+        SplittableRandom random = new SplittableRandom(8);
+        boolean changed = false;
+        for (int i = 0; i < 20; i++) {
+            game.restore(before, 0);
+            game.redealHidden(human, random);
+            assertEquals(hand, human.getCards(), "La mano del jugador no cambia");
+            assertEquals(top, game.getTopDiscardCard());
+            assertEquals(drawSize, game.getDrawPileSize());
+            assertEquals(machineHand.size(), game.getMachinePlayer().getDeckSize());
+            assertArrayEquals(hidden, hiddenCounts(game), "Las cartas ocultas son las mismas");
+            changed |= !machineHand.equals(game.getMachinePlayer().getCards());
+        }
+        assertTrue(changed, "La mano del rival debe repartirse de nuevo");
+    }
+}
@@ -45,7 +45,55 @@ public class GameTest {
                 .filter(card -> card.similarCard(game.getTopDiscardCard()))
                 .findFirst()
                 .orElseThrow();
+        humanPlayer.selectColor(CardColor.RED);
         game.playCard(humanPlayer, playableCard);
         assertEquals(4, humanPlayer.getDeckSize(), "El jugador debe tener una carta menos después de jugar");
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba jugar una carta que el jugador no tiene.
+     * Verifica que la partida la rechaza sin cambiar la mano ni el descarte, aunque sea un comodín siempre jugable.
+     */
+    @Test
+    public void testPlayCardNotHeld() {
+        int id = humanPlayer.getHand().count(Card.WILD_DRAW_FOUR_ID) == 0 ? Card.WILD_DRAW_FOUR_ID : Card.WILD_ID;
+        while (humanPlayer.getHand().count(id) > 0) {
+            id--;
+        }
+        Card card = Card.fromId(id);
+        Card topCard = game.getTopDiscardCard();
+        humanPlayer.selectColor(CardColor.RED);
+
+        assertThrows(GameException.class, () -> game.playCard(humanPlayer, card));
+        assertEquals(5, humanPlayer.getDeckSize(), "La mano no debe cambiar");
+        assertSame(topCard, game.getTopDiscardCard(), "El descarte no debe cambiar");
+    }
+
+    /**
+     * Prueba jugar un comodín sin elegir color.
+     * Verifica que la partida lo rechaza sin cambiar nada y que el color elegido se consume al jugar el comodín.
+     * @throws GameException Si el comodín con color elegido es rechazado.
+     */
+    @Test
+    public void testWildCardNeedsColor() throws GameException {
+        long seed = 0;
+        while (new Game("JugadorPrueba", false, seed).getHumanPlayer().getHand().count(Card.WILD_ID) == 0) {
+            seed++;
+        }
+        Game headless = new Game("JugadorPrueba", false, seed);
+        HumanPlayer human = headless.getHumanPlayer();
+        Card wild = Card.fromId(Card.WILD_ID);
+
+        assertThrows(GameException.class, () -> headless.playCard(human, wild));
+        assertEquals(5, human.getDeckSize(), "La mano no debe cambiar");
+        assertSame(human, headless.getCurrentPlayer(), "El turno no debe pasar");
+
+        human.selectColor(CardColor.WILD);
+        assertThrows(GameException.class, () -> headless.playCard(human, wild));
+
+        human.selectColor(CardColor.GREEN);
+        headless.playCard(human, wild);
+        assertEquals(CardColor.GREEN, headless.getCurrentColor());
+        assertNull(human.getSelectedCardColor(), "El color elegido no se reutiliza en el siguiente comodín");
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valida la mano basada en conteos por tipo de carta y sus máscaras de colores y tipos.
+ */
+public class HandTest {
+
+    /**
+     * Prueba agregar y quitar cartas.
+     * Verifica que los conteos, el tamaño y las máscaras se mantengan consistentes.
+     */
+    @Test
+    public void testAddAndRemove() {
+        Hand hand = new Hand();
+        Card redSkip = Card.of(CardColor.RED, CardType.SKIP);
+        hand.add(redSkip.getId());
+        hand.add(redSkip.getId());
+        hand.add(Card.WILD_ID);
+
+        assertEquals(3, hand.size(), "La mano debe tener 3 cartas");
+        assertEquals(2, hand.count(redSkip.getId()), "Debe haber 2 cartas de salto rojas");
+        assertEquals(2, hand.colorCount(CardColor.RED), "Debe haber 2 cartas rojas");
+        assertNotEquals(0, hand.typeMask(CardType.SKIP), "Debe haber cartas de salto");
+        assertEquals(0, hand.colorMask(CardColor.BLUE), "No debe haber cartas azules");
+
+        assertTrue(hand.remove(redSkip.getId()));
+        assertTrue(hand.remove(redSkip.getId()));
+        assertFalse(hand.remove(redSkip.getId()), "No se puede quitar una carta que no está en la mano");
+        assertEquals(0, hand.colorMask(CardColor.RED), "Ya no debe haber cartas rojas");
+        assertEquals(1, hand.size(), "Solo debe quedar el comodín");
+    }
+
+    /**
+     * Prueba la lista de cartas de la mano.
+     * Verifica que esté ordenada por tipo de carta y que solo se reconstruya cuando la mano cambia.
+     */
+    @Test
+    public void testToList() {
+        Hand hand = new Hand();
+        hand.add(Card.WILD_ID);
+        hand.add(Card.of(CardColor.BLUE, CardType.TWO).getId());
+        hand.add(Card.of(CardColor.RED, CardType.NINE).getId());
+
+        assertEquals(3, hand.toList().size());
+        assertEquals(Card.of(CardColor.RED, CardType.NINE), hand.toList().get(0), "Las cartas deben ordenarse por tipo");
+        assertSame(hand.toList(), hand.toList(), "La lista no debe copiarse si la mano no cambió");
+        assertEquals(Card.fromId(Card.WILD_ID), Card.fromId(hand.kindAt(hand.kindMask(), 2)), "La tercera carta debe ser el comodín");
+    }
+}
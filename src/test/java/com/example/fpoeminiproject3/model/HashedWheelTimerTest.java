@@ -0,0 +1,67 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el temporizador de rueda ejecuta las tareas a tiempo y respeta las cancelaciones.
+ */
+public class HashedWheelTimerTest {
+
+    /**
+     * Prueba que una tarea no se ejecuta antes de su plazo.
+     * Verifica que una tarea de 50 ms tarda al menos 50 ms en ejecutarse, también tras dar la vuelta a la rueda.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testTaskRunsAfterDelay() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(5, 4);
+        try {
+            CountDownLatch ran = new CountDownLatch(1);
+            long start = System.nanoTime();
+            HashedWheelTimer.Timeout timeout = timer.schedule(ran::countDown, 50);
+
+            assertTrue(ran.await(2, TimeUnit.SECONDS), "La tarea debe ejecutarse");
+            assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(50), "No antes de su plazo");
+            assertTrue(timeout.isExpired());
+        } finally {
+            timer.stop();
+        }
+    }
+
+    /**
+     * Prueba que las tareas canceladas no se ejecutan y las demás sí.
+     * Verifica con mil tareas que solo se ejecutan las pares, que no fueron canceladas.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testCancelledTasksDoNotRun() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(1, 64);
+        try {
+            int tasks = 1000;
+            AtomicInteger runs = new AtomicInteger();
+            CountDownLatch done = new CountDownLatch(tasks / 2);
+            for (int i = 0; i < tasks; i++) {
+                HashedWheelTimer.Timeout timeout = timer.schedule(() -> {
+                    runs.incrementAndGet();
+                    done.countDown();
+                }, 20 + i % 100);
+                if (i % 2 == 1) {
+                    assertTrue(timeout.cancel());
+                    assertTrue(timeout.isCancelled());
+                }
+            }
+
+            assertTrue(done.await(2, TimeUnit.SECONDS), "Las tareas no canceladas deben ejecutarse");
+            Thread.sleep(200);
+            assertEquals(tasks / 2, runs.get());
+        } finally {
+            timer.stop();
+        }
+    }
+}
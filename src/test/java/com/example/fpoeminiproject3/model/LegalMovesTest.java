@@ -0,0 +1,83 @@
+package com.example.fpoeminiproject3.model;
+
+import com.example.fpoeminiproject3.simulation.GameSimulator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la enumeración de jugadas legales de la partida coincide con lo que la partida acepta.
+ */
+public class LegalMovesTest {
+
+    /**
+     * Aplica una jugada codificada a una partida.
+     * @param game la partida
+     * @param player el jugador que mueve
+     * @param move la jugada
+     * @throws GameException Si la partida rechaza la jugada.
+     */
+    private static void apply(Game game, Player player, int move) throws GameException {
+        if (Move.isDraw(move)) {
+            game.drawCard(player);
+            return;
+        }
+        if (player instanceof HumanPlayer human) {
+            human.selectColor(Move.color(move));
+        }
+        game.playCard(player, Move.card(move));
+    }
+
+    /**
+     * Prueba que cada jugada legal es aceptada por la partida durante partidas completas, incluido robar.
+     * Verifica cada jugada sobre una copia restaurada del estado y que la vista publicada enumera las mismas jugadas.
+     * @throws GameException Si una jugada legal es rechazada.
+     */
+    @Test
+    public void testEveryLegalMoveIsAccepted() throws GameException {
+        int[] moves = new int[Move.MAX_MOVES];
+        int[] stateMoves = new int[Move.MAX_MOVES];
+        for (long seed = 0; seed < 20; seed++) {
+            Game game = new Game("JugadorPrueba", false, seed);
+            HumanPlayer human = game.getHumanPlayer();
+            for (int turn = 0; turn < 200 && !game.isOver(); turn++) {
+                if (game.getCurrentPlayer() != human) {
+                    assertEquals(0, game.legalMoves(human, moves), "Sin turno no hay jugadas");
+                    game.getMachinePlayer().playTurn();
+                    continue;
+                }
+                int count = game.legalMoves(human, moves);
+                assertTrue(count > 0, "Siempre hay al menos una jugada");
+                assertEquals(Move.DRAW, moves[count - 1], "Robar siempre es legal");
+                assertEquals(count, game.getState().legalMoves(stateMoves));
+                assertArrayEquals(Arrays.copyOf(moves, count), Arrays.copyOf(stateMoves, count));
+
+                byte[] snapshot = game.save();
+                for (int i = 0; i < count; i++) {
+                    Game copy = new Game("Copia", false, seed);
+                    copy.restore(snapshot, 0);
+                    apply(copy, copy.getHumanPlayer(), moves[i]);
+                }
+                apply(game, human, moves[(int) (seed + turn) % count]);
+            }
+        }
+    }
+
+    /**
+     * Prueba que una partida terminada no tiene jugadas legales.
+     * Verifica el resultado para los dos jugadores.
+     */
+    @Test
+    public void testNoMovesWhenOver() {
+        Game game = new Game("JugadorPrueba", false, 3L);
+        GameSimulator.play(game);
+        int[] moves = new int[Move.MAX_MOVES];
+
+        assertTrue(game.isOver());
+        assertEquals(0, game.legalMoves(game.getHumanPlayer(), moves));
+        assertEquals(0, game.legalMoves(game.getMachinePlayer(), moves));
+        assertEquals(0, game.getState().legalMoves(moves));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.fpoeminiproject3.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el planificador de turnos sin retrasos y su cancelación.
+ */
+public class TurnSchedulerTest {
+
+    /**
+     * Prueba que un planificador sin retrasos juega el turno de la máquina.
+     * Verifica que tras robar el humano, la máquina juega y el turno vuelve al humano o termina el juego.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testImmediateSchedulerPlaysMachineTurn() throws Exception {
+        Game game = new Game("JugadorPrueba", TurnScheduler.immediate());
+        HumanPlayer human = game.getHumanPlayer();
+        CountDownLatch backToHuman = new CountDownLatch(1);
+        game.addObserver(new GameObserver() {
+            @Override
+            public void onTurnStarted(Player player) {
+                if (player == human) {
+                    backToHuman.countDown();
+                }
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+            }
+
+            @Override
+            public void onCardDrawn(Player player, Card card) {
+            }
+
+            @Override
+            public void onUnoCalled(Player player) {
+            }
+
+            @Override
+            public void onGameOver(Player winner) {
+                backToHuman.countDown();
+            }
+
+            @Override
+            public void onColorSelected(Player player, CardColor color) {
+            }
+        });
+
+        game.drawCard(human);
+
+        assertTrue(backToHuman.await(5, TimeUnit.SECONDS), "La máquina debe jugar su turno sin retrasos");
+    }
+
+    /**
+     * Prueba que cancelar el planificador descarta las tareas pendientes.
+     * Verifica que una tarea programada no se ejecuta y que no se aceptan tareas nuevas.
+     * @throws Exception Si la espera es interrumpida.
+     */
+    @Test
+    public void testCancelDropsPendingTasks() throws Exception {
+        TurnScheduler scheduler = new TurnScheduler(0, 0, 0);
+        AtomicBoolean ran = new AtomicBoolean();
+        assertNotNull(scheduler.schedule(() -> ran.set(true), 200));
+
+        scheduler.cancel();
+        Thread.sleep(400);
+
+        assertFalse(ran.get(), "La tarea pendiente no debe ejecutarse");
+        assertTrue(scheduler.isCancelled());
+        assertNull(scheduler.schedule(() -> ran.set(true), 0), "No se deben aceptar tareas tras cancelar");
+    }
+
+    /**
+     * Prueba que el ritmo de la partida no cambia las jugadas de la máquina.
+     * Verifica que una partida con tiempos de pensamiento aleatorios y la misma partida sin ritmo,
+     * creadas con la misma semilla, producen las mismas cartas de la máquina mientras el humano roba.
+     * @throws Exception Si la espera es interrumpida o una jugada es rechazada.
+     */
+    @Test
+    public void testPacingKeepsSeededMoves() throws Exception {
+        int humanDraws = 20;
+        Game headless = new Game("JugadorPrueba", false, 9L);
+        List<Card> expected = recordMachineCards(headless);
+        for (int draws = 0; draws < humanDraws && !headless.isOver(); ) {
+            if (headless.getCurrentPlayer() == headless.getHumanPlayer()) {
+                headless.drawCard(headless.getHumanPlayer());
+                draws++;
+            } else {
+                headless.getMachinePlayer().playTurn();
+            }
+        }
+        while (!headless.isOver() && headless.getCurrentPlayer() == headless.getMachinePlayer()) {
+            headless.getMachinePlayer().playTurn();
+        }
+
+        Game paced = new Game("JugadorPrueba", new TurnScheduler(0, 0, 5), 9L);
+        List<Card> played = recordMachineCards(paced);
+        for (int draws = 0; draws < humanDraws && awaitHumanTurn(paced); draws++) {
+            paced.drawCardAsync(paced.getHumanPlayer()).get(5, TimeUnit.SECONDS);
+        }
+        awaitHumanTurn(paced);
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected, played, "La misma semilla debe jugar las mismas cartas con o sin ritmo");
+    }
+
+    /**
+     * Espera a que una partida con ritmo vuelva al humano o termine.
+     * @param game la partida
+     * @return true si es el turno del humano, false si la partida terminó
+     * @throws Exception Si la espera es interrumpida o expira.
+     */
+    private static boolean awaitHumanTurn(Game game) throws Exception {
+        boolean[] over = new boolean[1];
+        for (int i = 0; i < 500; i++) {
+            GameState state = game.submitAsync(() -> over[0] = game.isOver()).get(5, TimeUnit.SECONDS);
+            if (over[0]) {
+                return false;
+            }
+            if (state.currentPlayer() == game.getHumanPlayer()) {
+                return true;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("El turno debe volver al humano");
+    }
+
+    /**
+     * Registra las cartas que juega la máquina de una partida.
+     * @param game la partida
+     * @return la lista de cartas jugadas, que se llena durante la partida
+     */
+    private static List<Card> recordMachineCards(Game game) {
+        List<Card> cards = Collections.synchronizedList(new ArrayList<>());
+        game.addObserver(new GameObserver() {
+            @Override
+            public void onTurnStarted(Player player) {
+            }
+
+            @Override
+            public void onCardPlayed(Player player, Card card) {
+                if (player == game.getMachinePlayer()) {
+                    cards.add(card);
+                }
+            }
+
+            @Override
+            public void onCardDrawn(Player player, Card card) {
+            }
+
+            @Override
+            public void onUnoCalled(Player player) {
+            }
+
+            @Override
+            public void onGameOver(Player winner) {
+            }
+
+            @Override
+            public void onColorSelected(Player player, CardColor color) {
+            }
+        });
+        return cards;
+    }
+}
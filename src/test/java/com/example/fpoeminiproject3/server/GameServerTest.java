@@ -0,0 +1,141 @@
+package com.example.fpoeminiproject3.server;
+
+import com.example.fpoeminiproject3.model.Card;
+import com.example.fpoeminiproject3.model.CardColor;
+import com.example.fpoeminiproject3.model.Game;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el servidor atiende muchas partidas a la vez y cierra las sesiones inactivas.
+ */
+public class GameServerTest {
+
+    /**
+     * Prueba que los bots del generador de carga completan partidas contra el servidor.
+     * Verifica que se terminan partidas, que se responden turnos y que todas las sesiones siguen abiertas.
+     * @throws Exception Si falla la conexión.
+     */
+    @Test
+    public void testBotsCompleteGames() throws Exception {
+        try (GameServer server = new GameServer(0, 2, 10_000, new SplittableRandom(7));
+             LoadGenerator generator = new LoadGenerator("127.0.0.1", server.getPort(), 20, new SplittableRandom(11))) {
+            generator.run(1000);
+
+            assertTrue(generator.getGames() > 0, "Los bots deben terminar partidas");
+            assertTrue(generator.getTurns() > generator.getGames(), "Cada partida tiene varios turnos");
+            assertTrue(generator.latencyMicros(99) >= generator.latencyMicros(50));
+            assertEquals(20, server.getSessionCount());
+        }
+    }
+
+    /**
+     * Prueba que una sesión que no envía nada es cerrada por el servidor.
+     * Verifica que, tras el tiempo de inactividad, la lectura del socket llega al final del flujo.
+     * @throws Exception Si falla la conexión.
+     */
+    @Test
+    public void testIdleSessionIsEvicted() throws Exception {
+        try (GameServer server = new GameServer(0, 1, 200, new SplittableRandom(7));
+             Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            out.write(new byte[] {1, Protocol.NEW_GAME});
+            int length = in.read();
+            assertEquals(Protocol.STATE, (byte) in.read());
+            assertEquals(length - 1, in.readNBytes(length - 1).length);
+
+            assertEquals(-1, in.read(), "El servidor debe cerrar la sesión inactiva");
+            assertEquals(1, server.getEvictionCount());
+        }
+    }
+
+    /**
+     * Prueba que una trama con un código desconocido se rechaza.
+     * Verifica que el servidor responde con un error de trama y cierra la conexión.
+     * @throws Exception Si falla la conexión.
+     */
+    @Test
+    public void testBadFrameIsRejected() throws Exception {
+        try (GameServer server = new GameServer(0, 1, 10_000, new SplittableRandom(7));
+             Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            socket.setSoTimeout(5000);
+            socket.getOutputStream().write(new byte[] {1, 0x7F});
+            InputStream in = socket.getInputStream();
+
+            assertArrayEquals(new byte[] {2, Protocol.ERROR, Protocol.BAD_FRAME}, in.readNBytes(3));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    /**
+     * Prueba que un cliente no puede jugar cartas que no tiene ni elegir el color comodín.
+     * Verifica que las jugadas repetidas de un comodín se rechazan sin tumbar la sesión,
+     * y que un color comodín se rechaza como trama inválida.
+     * @throws Exception Si falla la conexión.
+     */
+    @Test
+    public void testForgedPlaysAreRejected() throws Exception {
+        try (GameServer server = new GameServer(0, 1, 10_000, new SplittableRandom(7));
+             Socket socket = new Socket("127.0.0.1", server.getPort())) {
+            socket.setSoTimeout(5000);
+            OutputStream out = socket.getOutputStream();
+            InputStream in = socket.getInputStream();
+            out.write(new byte[] {1, Protocol.NEW_GAME});
+            assertEquals(Protocol.STATE, readFrame(in)[0]);
+
+            int rejected = 0;
+            for (int i = 0; i < 80; i++) {
+                out.write(new byte[] {3, Protocol.PLAY, (byte) Card.WILD_DRAW_FOUR_ID, (byte) CardColor.RED.ordinal()});
+                byte[] frame = readFrame(in);
+                if (frame[0] == Protocol.ERROR && frame[1] == Protocol.ILLEGAL_MOVE) {
+                    rejected++;
+                    assertEquals(Protocol.STATE, readFrame(in)[0]);
+                }
+            }
+            assertTrue(rejected >= 76, "Solo se pueden jugar los comodines que se tienen");
+            assertEquals(1, server.getSessionCount());
+
+            out.write(new byte[] {3, Protocol.PLAY, (byte) Card.WILD_ID, (byte) CardColor.WILD.ordinal()});
+            assertArrayEquals(new byte[] {Protocol.ERROR, Protocol.BAD_FRAME}, readFrame(in));
+            assertEquals(-1, in.read());
+        }
+    }
+
+    /**
+     * Lee una trama completa del servidor.
+     * @param in el flujo del socket
+     * @return el código y la carga de la trama
+     * @throws Exception Si falla la lectura.
+     */
+    private static byte[] readFrame(InputStream in) throws Exception {
+        int length = in.read();
+        assertTrue(length > 0, "El servidor debe responder");
+        return in.readNBytes(length);
+    }
+
+    /**
+     * Prueba escribir el estado de una partida en un búfer directo, como los de los sockets.
+     * Verifica que el marco es idéntico al escrito en un búfer respaldado por un arreglo.
+     */
+    @Test
+    public void testStateIntoDirectBuffer() {
+        Game game = new Game("Cliente", false, new SplittableRandom(4));
+        ByteBuffer heap = ByteBuffer.allocate(Protocol.MAX_FRAME + 1);
+        ByteBuffer direct = ByteBuffer.allocateDirect(Protocol.MAX_FRAME + 1);
+
+        Protocol.writeState(heap, game);
+        Protocol.writeState(direct, game);
+
+        assertEquals(heap.flip(), direct.flip());
+        assertEquals(8 + game.getHumanPlayer().getDeckSize(), heap.remaining());
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.fpoeminiproject3.simulation;
+
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Player;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valida que el simulador juegue partidas completas sin JavaFX ni pausas.
+ */
+public class GameSimulatorTest {
+
+    /**
+     * Prueba jugar varias partidas sin interfaz.
+     * Verifica que, con estas semillas, todas las partidas terminan y el ganador no tiene cartas en la mano;
+     * una partida que se atasca porque no quedan cartas para robar cuenta como no terminada.
+     */
+    @Test
+    public void testPlayHeadlessGames() {
+        int stalled = 0;
+        for (long seed = 0; seed < 1000; seed++) {
+            Game game = new Game("Simulado", false, seed);
+            Player winner = GameSimulator.play(game);
+            if (winner == null) {
+                stalled++;
+            } else {
+                assertTrue(game.isOver(), "La partida debe terminar cuando hay ganador");
+                assertEquals(0, winner.getDeckSize(), "El ganador no debe tener cartas");
+            }
+        }
+        assertEquals(0, stalled, "Ninguna partida debe atascarse");
+    }
+
+    /**
+     * Prueba jugar dos veces la misma semilla con la estrategia por defecto del asiento humano.
+     * Verifica que ambas partidas terminan en exactamente el mismo estado.
+     */
+    @Test
+    public void testSameSeedSameGame() {
+        for (long seed = 0; seed < 20; seed++) {
+            Game first = new Game("Simulado", false, seed);
+            Game second = new Game("Simulado", false, seed);
+            GameSimulator.play(first);
+            GameSimulator.play(second);
+            assertArrayEquals(first.save(), second.save(), "La semilla " + seed + " debe repetir la partida");
+        }
+    }
+
+    /**
+     * Prueba que una partida con pausas no pueda simularse.
+     */
+    @Test
+    public void testRejectPacedGame() {
+        assertThrows(IllegalArgumentException.class, () -> GameSimulator.play(new Game("Simulado")));
+    }
+}
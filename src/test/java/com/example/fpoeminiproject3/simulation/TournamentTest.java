@@ -0,0 +1,69 @@
+package com.example.fpoeminiproject3.simulation;
+
+import com.example.fpoeminiproject3.ai.Strategies;
+import com.example.fpoeminiproject3.model.Game;
+import com.example.fpoeminiproject3.model.Strategy;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Valida el torneo paralelo de partidas simuladas.
+ */
+public class TournamentTest {
+
+    /**
+     * Prueba jugar un torneo repartido en varias tareas.
+     * Verifica que se jueguen todas las partidas, que casi ninguna se atasque, que dos estrategias iguales ganen
+     * una proporción parecida y que otro torneo con otra semilla dé una tasa de victorias dentro del intervalo
+     * de confianza del 95% de ambos.
+     */
+    @Test
+    public void testRunTournament() {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        TournamentStats stats = new Tournament(5000, new SplittableRandom(1)).run(pool);
+        TournamentStats other = new Tournament(5000, new SplittableRandom(2)).run(pool);
+        pool.shutdown();
+
+        assertEquals(5000, stats.getGames(), "Deben jugarse todas las partidas");
+        assertTrue(stats.getStalledGames() <= 50, "Casi ninguna partida debe atascarse: " + stats.getStalledGames());
+        double human = (double) stats.getHumanWins() / stats.getGames();
+        double machine = (double) stats.getMachineWins() / stats.getGames();
+        assertTrue(human > 0.4 && human < 0.6, "La tasa de victorias del humano es " + human);
+        assertTrue(machine > 0.4 && machine < 0.6, "La tasa de victorias de la máquina es " + machine);
+
+        double otherHuman = (double) other.getHumanWins() / other.getGames();
+        double margin = 1.96 * Math.sqrt(human * (1 - human) / stats.getGames()
+                + otherHuman * (1 - otherHuman) / other.getGames());
+        assertEquals(human, otherHuman, margin, "Las tasas de dos torneos deben coincidir dentro del intervalo");
+        assertTrue(stats.getMeanTurns() > 0, "Las partidas deben tener turnos");
+    }
+
+    /**
+     * Prueba que un torneo con la misma semilla da los mismos resultados con cualquier número de hilos.
+     * Verifica que los informes con uno y tres hilos son idénticos y que la semilla de la partida más larga
+     * vuelve a jugar una partida de la misma duración.
+     */
+    @Test
+    public void testSameSeedAnyThreadCount() {
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool three = new ForkJoinPool(3);
+        TournamentStats first = new Tournament(3000, 99L, "random", "random", 0).run(single);
+        TournamentStats second = new Tournament(3000, 99L, "random", "random", 0).run(three);
+        single.shutdown();
+        three.shutdown();
+
+        assertEquals(first.report(), second.report());
+        assertEquals(99L, second.getSeed());
+        long seed = first.getLongestGameSeed();
+        Game longest = new Game("Simulated", false, seed);
+        longest.getMachinePlayer().setStrategy(
+                Strategies.create("random", new SplittableRandom(Game.deriveSeed(seed, 0)), 1, 0));
+        Strategy human = Strategies.create("random", new SplittableRandom(Game.deriveSeed(seed, 1)), 1, 0);
+        GameSimulator.play(longest, human);
+        assertEquals(first.getLongestGameTurns(), longest.getTurnCount());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.fpoeminiproject3.sync;
+
+import com.example.fpoeminiproject3.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la vista remota reconstruida con deltas coincide con la partida y que cada jugador solo ve su mano.
+ */
+public class StateSyncTest {
+
+    /**
+     * Comprueba que la vista decodificada de un asiento coincide con la partida.
+     * @param game la partida
+     * @param seat el jugador del asiento
+     * @param state la vista decodificada
+     * @param self el sustituto local del asiento
+     */
+    private static void assertMatches(Game game, Player seat, GameState state, Player self) {
+        assertEquals(seat.getCards(), state.humanCards(), "La mano debe coincidir");
+        assertEquals(game.getOpponent(seat).getDeckSize(), state.machineCardCount());
+        assertEquals(game.getTopDiscardCard(), state.topCard());
+        assertEquals(game.getCurrentColor(), state.currentColor());
+        assertEquals(game.getDrawPileSize(), state.drawPileSize());
+        assertEquals(game.getTurnCount(), state.turnCount());
+        assertEquals(game.getCurrentPlayer() == seat, state.currentPlayer() == self);
+        assertEquals(game.getWinner() == null, state.winner() == null);
+    }
+
+    /**
+     * Prueba una partida completa sincronizada para los dos asientos.
+     * Verifica después de cada turno que ambas vistas coinciden y que los deltas ocupan pocos bytes por turno.
+     * @throws GameException Si una jugada es rechazada.
+     */
+    @Test
+    public void testDeltasFollowWholeGame() throws GameException {
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(21));
+        HumanPlayer human = game.getHumanPlayer();
+        MachinePlayer machine = game.getMachinePlayer();
+        HumanPlayer humanStandIn = new HumanPlayer("Yo");
+        HumanPlayer machineStandIn = new HumanPlayer("Máquina");
+        StateEncoder humanEncoder = new StateEncoder(game, human);
+        StateEncoder machineEncoder = new StateEncoder(game, machine);
+        StateDecoder humanView = new StateDecoder(humanStandIn, new MachinePlayer("Rival"));
+        StateDecoder machineView = new StateDecoder(machineStandIn, new HumanPlayer("Rival"));
+        ByteBuffer wire = ByteBuffer.allocate(StateEncoder.MAX_MESSAGE);
+        RandomStrategy strategy = new RandomStrategy(new SplittableRandom(3));
+
+        int snapshotBytes = humanEncoder.encode(wire);
+        humanView.apply(wire.flip());
+        wire.clear();
+        machineEncoder.encode(wire);
+        machineView.apply(wire.flip());
+        assertTrue(snapshotBytes < 32, "La instantánea inicial debe ser compacta");
+
+        long deltaBytes = 0;
+        int turns = 0;
+        while (!game.isOver() && turns < 500) {
+            if (game.getCurrentPlayer() == machine) {
+                machine.playTurn();
+            } else {
+                int move = strategy.chooseMove(game, human, 0);
+                if (Move.isDraw(move)) {
+                    game.drawCard(human);
+                } else {
+                    human.selectColor(Move.color(move));
+                    game.playCard(human, Move.card(move));
+                }
+            }
+            turns++;
+            wire.clear();
+            deltaBytes += humanEncoder.encode(wire);
+            assertMatches(game, human, humanView.apply(wire.flip()), humanStandIn);
+            wire.clear();
+            machineEncoder.encode(wire);
+            assertMatches(game, machine, machineView.apply(wire.flip()), machineStandIn);
+        }
+
+        assertTrue(game.isOver(), "La partida debe terminar");
+        assertTrue(deltaBytes / (double) turns < 16, "Cada turno debe ocupar unos pocos bytes");
+    }
+
+    /**
+     * Prueba que un mensaje sin cambios no contiene operaciones y que reiniciar el codificador envía una instantánea.
+     * Verifica el tamaño del mensaje vacío y que la instantánea reemplaza la vista anterior.
+     */
+    @Test
+    public void testEmptyDeltaAndReset() {
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(4));
+        StateEncoder encoder = new StateEncoder(game, game.getHumanPlayer());
+        StateDecoder decoder = new StateDecoder(new HumanPlayer("Yo"), new MachinePlayer("Rival"));
+        ByteBuffer wire = ByteBuffer.allocate(StateEncoder.MAX_MESSAGE);
+
+        encoder.encode(wire);
+        decoder.apply(wire.flip());
+        wire.clear();
+        assertEquals(1, encoder.encode(wire), "Sin cambios solo se envía el contador");
+
+        encoder.reset();
+        wire.clear();
+        encoder.encode(wire);
+        StateDecoder fresh = new StateDecoder(new HumanPlayer("Yo"), new MachinePlayer("Rival"));
+        assertEquals(game.getHumanPlayer().getCards(), fresh.apply(wire.flip()).humanCards());
+    }
+
+    /**
+     * Prueba codificar una instantánea en un búfer directo, como los que usa la red.
+     * Verifica que la vista decodificada coincide con la partida.
+     */
+    @Test
+    public void testEncodeIntoDirectBuffer() {
+        Game game = new Game("JugadorPrueba", false, new SplittableRandom(5));
+        StateEncoder encoder = new StateEncoder(game, game.getHumanPlayer());
+        HumanPlayer self = new HumanPlayer("Yo");
+        StateDecoder decoder = new StateDecoder(self, new MachinePlayer("Rival"));
+        ByteBuffer wire = ByteBuffer.allocateDirect(StateEncoder.MAX_MESSAGE);
+
+        encoder.encode(wire);
+        assertMatches(game, game.getHumanPlayer(), decoder.apply(wire.flip()), self);
+    }
+
+    /**
+     * Prueba que un delta recibido antes de la primera instantánea se rechaza.
+     * Verifica que el decodificador lanza IllegalArgumentException.
+     */
+    @Test
+    public void testDeltaBeforeSnapshotIsRejected() {
+        StateDecoder decoder = new StateDecoder(new HumanPlayer("Yo"), new MachinePlayer("Rival"));
+        ByteBuffer message = ByteBuffer.wrap(new byte[] {1, StateEncoder.TOP, 3});
+
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(message));
+    }
+
+    /**
+     * Prueba que un color que no existe o que es comodín se rechaza, tanto en una instantánea como en un delta.
+     * Verifica que el decodificador lanza IllegalArgumentException en lugar de fallar al construir la vista.
+     */
+    @Test
+    public void testUnknownColorIsRejected() {
+        byte wild = (byte) CardColor.WILD.ordinal();
+        StateDecoder decoder = new StateDecoder(new HumanPlayer("Yo"), new MachinePlayer("Rival"));
+        ByteBuffer snapshot = ByteBuffer.wrap(new byte[] {1, StateEncoder.SNAPSHOT, 0, 0, 0, 3, wild, 20, 7, -1, 0});
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(snapshot));
+
+        decoder.apply(ByteBuffer.wrap(new byte[] {1, StateEncoder.SNAPSHOT, 0, 0, 0, 3, 0, 20, 7, -1, 0}));
+        ByteBuffer delta = ByteBuffer.wrap(new byte[] {1, StateEncoder.COLOR, (byte) 0xC8});
+        assertThrows(IllegalArgumentException.class, () -> decoder.apply(delta));
+        assertEquals(CardColor.values()[0], decoder.getState().currentColor());
+    }
+}